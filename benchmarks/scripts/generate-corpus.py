@@ -0,0 +1,142 @@
+#!/usr/bin/env python3
+"""Regenerates the synthetic MP3 corpus used by the JMH suites.
+
+The files carry real ID3 tags and valid MPEG audio frame headers with
+pseudo-random payloads, which is all the metadata readers look at.
+Output is deterministic so the checked-in corpus only changes when this
+script does.
+"""
+import random
+import struct
+from pathlib import Path
+
+CORPUS_DIR = Path(__file__).resolve().parent.parent / "src" / "main" / "resources" / "corpus"
+FRAMES = 120
+
+MPEG1, MPEG2 = 3, 2
+BITRATE_INDEX = {
+    MPEG1: {128: 9, 160: 10, 192: 11, 256: 13},
+    MPEG2: {64: 8, 96: 10},
+}
+SAMPLE_RATE = {MPEG1: 44100, MPEG2: 22050}
+
+
+def synchsafe(value):
+    return bytes([(value >> 21) & 0x7F, (value >> 14) & 0x7F, (value >> 7) & 0x7F, value & 0x7F])
+
+
+def text_frame(frame_id, text, version, encoding):
+    if encoding == 0:
+        payload = b"\x00" + text.encode("latin-1")
+    elif encoding == 1:
+        payload = b"\x01" + text.encode("utf-16")
+    else:
+        payload = b"\x03" + text.encode("utf-8")
+    size = synchsafe(len(payload)) if version == 4 else struct.pack(">I", len(payload))
+    return frame_id.encode("ascii") + size + b"\x00\x00" + payload
+
+
+def id3v2(version, frames, padding=256):
+    body = b"".join(frames) + b"\x00" * padding
+    return b"ID3" + bytes([version, 0, 0]) + synchsafe(len(body)) + body
+
+
+def id3v1(title, artist, album, year):
+    def field(value, length):
+        return value.encode("latin-1")[:length].ljust(length, b"\x00")
+
+    return b"TAG" + field(title, 30) + field(artist, 30) + field(album, 30) + field(year, 4) + b"\x00" * 30 + b"\xff"
+
+
+def frame_header(version, bitrate, mono):
+    header = 0xFFE00000
+    header |= version << 19
+    header |= 0b01 << 17  # layer III
+    header |= 1 << 16  # no CRC
+    header |= BITRATE_INDEX[version][bitrate] << 12
+    header |= (0b11 if mono else 0b00) << 6
+    return header
+
+
+def frame_length(version, bitrate):
+    samples_per_frame = 1152 if version == MPEG1 else 576
+    return samples_per_frame // 8 * bitrate * 1000 // SAMPLE_RATE[version]
+
+
+def audio(version, bitrates, mono, rng, vbr_header=None):
+    frames = []
+    for index in range(FRAMES):
+        bitrate = bitrates[index % len(bitrates)]
+        length = frame_length(version, bitrate)
+        payload = bytearray(rng.getrandbits(8) for _ in range(length - 4))
+        if index == 0 and vbr_header is not None:
+            offset, marker = vbr_header(version, mono)
+            payload[offset - 4:offset - 4 + len(marker)] = marker
+        frames.append(struct.pack(">I", frame_header(version, bitrate, mono)) + bytes(payload))
+    return b"".join(frames)
+
+
+def xing(frame_count, byte_count):
+    def header(version, mono):
+        side_info = (17 if mono else 32) if version == MPEG1 else (9 if mono else 17)
+        return 4 + side_info, b"Xing" + struct.pack(">III", 0x03, frame_count, byte_count)
+
+    return header
+
+
+def vbri(frame_count, byte_count):
+    def header(version, mono):
+        return 36, b"VBRI" + struct.pack(">HHHII", 1, 0, 75, byte_count, frame_count) + b"\x00" * 8
+
+    return header
+
+
+def write(name, *parts):
+    path = CORPUS_DIR / name
+    path.write_bytes(b"".join(parts))
+    print(f"{name}: {path.stat().st_size} bytes")
+
+
+def main():
+    CORPUS_DIR.mkdir(parents=True, exist_ok=True)
+    rng = random.Random(20240501)
+
+    write("id3v23-cbr-128.mp3",
+          id3v2(3, [text_frame("TIT2", "Synthetic Constant", 3, 0),
+                    text_frame("TPE1", "Benchmark Ensemble", 3, 1),
+                    text_frame("TALB", "Corpus Sessions", 3, 0),
+                    text_frame("TYER", "1998", 3, 0)]),
+          audio(MPEG1, [128], False, rng))
+
+    vbr_bitrates = [128, 192, 256, 160]
+    vbr_bytes = sum(frame_length(MPEG1, vbr_bitrates[i % 4]) for i in range(FRAMES))
+    write("id3v24-vbr-xing.mp3",
+          id3v2(4, [text_frame("TIT2", "Variable Überschrift", 4, 3),
+                    text_frame("TPE1", "Benchmark Ensemble", 4, 3),
+                    text_frame("TALB", "Corpus Sessions", 4, 3),
+                    text_frame("TDRC", "2011-06-17", 4, 3)]),
+          audio(MPEG1, vbr_bitrates, False, rng, xing(FRAMES, vbr_bytes)))
+
+    write("vbri-vbr.mp3",
+          id3v2(3, [text_frame("TIT2", "Fraunhofer Header", 3, 0),
+                    text_frame("TPE1", "Benchmark Ensemble", 3, 0),
+                    text_frame("TALB", "Corpus Sessions", 3, 0),
+                    text_frame("TYER", "2004", 3, 0)]),
+          audio(MPEG1, vbr_bitrates, False, rng, vbri(FRAMES, vbr_bytes)))
+
+    write("id3v1-cbr-192.mp3",
+          audio(MPEG1, [192], False, rng),
+          id3v1("Legacy Tag Only", "Benchmark Ensemble", "Corpus Sessions", "1987"))
+
+    write("mpeg2-mono-64.mp3",
+          id3v2(3, [text_frame("TIT2", "Low Rate Mono", 3, 0),
+                    text_frame("TPE1", "Benchmark Ensemble", 3, 0),
+                    text_frame("TALB", "Corpus Sessions", 3, 0),
+                    text_frame("TYER", "2015", 3, 0)]),
+          audio(MPEG2, [64], True, rng))
+
+    write("untagged-cbr-128.mp3", audio(MPEG1, [128], False, rng))
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,57 @@
+package com.musicplatform.benchmarks;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// A throwaway Postgres in Testcontainers for the persistence suites; JMH forks per @Param set, so each gets a fresh one.
+public final class BenchmarkDatabase implements AutoCloseable {
+
+    private static final String IMAGE_PROPERTY = "benchmarks.postgres-image";
+    private static final String DEFAULT_IMAGE = "postgres:17-alpine";
+
+    private final PostgreSQLContainer<?> container;
+
+    private BenchmarkDatabase(PostgreSQLContainer<?> container) {
+        this.container = container;
+    }
+
+    public static BenchmarkDatabase start(String... schema) throws SQLException {
+        PostgreSQLContainer<?> container = new PostgreSQLContainer<>(
+                DockerImageName.parse(System.getProperty(IMAGE_PROPERTY, DEFAULT_IMAGE)).asCompatibleSubstituteFor("postgres"));
+        container.start();
+
+        BenchmarkDatabase database = new BenchmarkDatabase(container);
+        try (Connection connection = database.connect(true)) {
+            database.execute(connection, schema);
+        } catch (SQLException | RuntimeException e) {
+            database.close();
+            throw e;
+        }
+        return database;
+    }
+
+    public Connection connect(boolean autoCommit) throws SQLException {
+        Connection connection = DriverManager.getConnection(
+                container.getJdbcUrl(), container.getUsername(), container.getPassword());
+        connection.setAutoCommit(autoCommit);
+        return connection;
+    }
+
+    public void execute(Connection connection, String... statements) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        container.stop();
+    }
+}
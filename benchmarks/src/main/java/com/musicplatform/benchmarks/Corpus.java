@@ -0,0 +1,58 @@
+package com.musicplatform.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+
+// Synthetic MP3s generated by scripts/generate-corpus.py; keep the @Param lists in sync with that script.
+public final class Corpus {
+
+    public static final String ID3V23_CBR = "id3v23-cbr-128.mp3";
+    public static final String ID3V24_XING_VBR = "id3v24-vbr-xing.mp3";
+    public static final String VBRI_VBR = "vbri-vbr.mp3";
+    public static final String ID3V1_CBR = "id3v1-cbr-192.mp3";
+    public static final String MPEG2_MONO = "mpeg2-mono-64.mp3";
+    public static final String UNTAGGED_CBR = "untagged-cbr-128.mp3";
+
+    public static final List<String> SAMPLES = List.of(
+            ID3V23_CBR, ID3V24_XING_VBR, VBRI_VBR, ID3V1_CBR, MPEG2_MONO, UNTAGGED_CBR);
+
+    private static final String CORPUS_DIRECTORY = "/corpus/";
+
+    private Corpus() {
+    }
+
+    public static byte[] read(String sample) {
+        try (InputStream stream = Corpus.class.getResourceAsStream(CORPUS_DIRECTORY + sample)) {
+            if (stream == null) {
+                throw new IllegalArgumentException("Unknown corpus sample: " + sample);
+            }
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static byte[] head(String sample, int length) {
+        byte[] audio = read(sample);
+        return Arrays.copyOf(audio, Math.min(length, audio.length));
+    }
+
+    public static Path copyToTempFile(String sample) {
+        try {
+            Path file = Files.createTempFile("corpus-", "-" + sample);
+            file.toFile().deleteOnExit();
+            try (InputStream stream = Corpus.class.getResourceAsStream(CORPUS_DIRECTORY + sample)) {
+                Files.copy(stream, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.musicplatform.resource.metadata;
+
+import com.musicplatform.benchmarks.Corpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MediaTypeDetectionBenchmark {
+
+    private static final int SNIFF_SIZE = 65536;
+
+    @Param({Corpus.ID3V23_CBR, Corpus.ID3V24_XING_VBR, Corpus.ID3V1_CBR, Corpus.UNTAGGED_CBR})
+    private String sample;
+
+    private Mp3MetadataExtractor extractor;
+    private byte[] head;
+
+    @Setup
+    public void setUp() {
+        extractor = new Mp3MetadataExtractor(MetadataEngine.NATIVE.name());
+        head = Corpus.head(sample, SNIFF_SIZE);
+    }
+
+    @Benchmark
+    public boolean isAudioMpeg() {
+        return extractor.isAudioMpeg(head);
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        extractor.validate(head);
+        blackhole.consume(head);
+    }
+}
@@ -0,0 +1,75 @@
+package com.musicplatform.resource.metadata;
+
+import com.musicplatform.benchmarks.Corpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetadataExtractionBenchmark {
+
+    @Param({
+            Corpus.ID3V23_CBR,
+            Corpus.ID3V24_XING_VBR,
+            Corpus.VBRI_VBR,
+            Corpus.ID3V1_CBR,
+            Corpus.MPEG2_MONO,
+            Corpus.UNTAGGED_CBR
+    })
+    private String sample;
+
+    private NativeMp3MetadataReader nativeReader;
+    private Path audioFile;
+    private ByteBuffer audio;
+
+    // Only extract() varies by engine; keeping the parameter here stops readNativeFromHeap running once per engine.
+    @State(Scope.Benchmark)
+    public static class Extractor {
+
+        @Param({"native", "tika"})
+        private String engine;
+
+        private Mp3MetadataExtractor extractor;
+
+        @Setup
+        public void setUp() {
+            extractor = new Mp3MetadataExtractor(engine);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        nativeReader = new NativeMp3MetadataReader();
+        audioFile = Corpus.copyToTempFile(sample);
+        audio = ByteBuffer.wrap(Corpus.read(sample));
+    }
+
+    @Benchmark
+    public Map<String, String> extract(Extractor extractor) {
+        return extractor.extractor.extract(audioFile);
+    }
+
+    @Benchmark
+    public Optional<AudioMetadata> readNativeFromHeap() {
+        return nativeReader.read(audio);
+    }
+}
@@ -0,0 +1,39 @@
+package com.musicplatform.resource.metadata;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetadataFormattingBenchmark {
+
+    @Param({"26.0", "261.49", "7322.5"})
+    private double durationSeconds;
+
+    @Param({"1999", "2011-06-17", "Recorded live in 1987, remastered"})
+    private String releaseDate;
+
+    @Benchmark
+    public String formatAsMinutesAndSeconds() {
+        return Mp3MetadataExtractor.formatAsMinutesAndSeconds(durationSeconds);
+    }
+
+    @Benchmark
+    public String extractYear() {
+        return Mp3MetadataExtractor.extractYear(releaseDate);
+    }
+}
@@ -0,0 +1,174 @@
+package com.musicplatform.resource.repository;
+
+import com.musicplatform.benchmarks.BenchmarkDatabase;
+import com.musicplatform.resource.entity.Resource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+// Resource inserts per second, as the JDBC statements Hibernate issues for each ID strategy:
+// - identity: one INSERT ... RETURNING id per row, since the ID is only known after the row is written
+// - pooled-sequence: one nextval() per Resource.ID_ALLOCATION_SIZE rows and inserts sent in batches of that size
+// rowsPerTransaction is 1 for single uploads and larger for bulk ingest, where batching can take effect.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ResourceInsertBenchmark {
+
+    private static final int ROWS = 500;
+
+    private static final String CREATE_TABLE_SQL = """
+            CREATE TABLE resources
+            (
+                id          BIGSERIAL PRIMARY KEY,
+                storage_key VARCHAR(128),
+                size_bytes  BIGINT,
+                checksum    VARCHAR(64),
+                created_at  TIMESTAMPTZ NOT NULL DEFAULT now(),
+                audio_data  BYTEA
+            )""";
+    private static final String CREATE_INDEX_SQL = "CREATE INDEX idx_resources_storage_key ON resources (storage_key)";
+    private static final String INSERT_RETURNING_ID_SQL =
+            "INSERT INTO resources (storage_key, size_bytes, checksum) VALUES (?, ?, ?) RETURNING id";
+    private static final String INSERT_WITH_ID_SQL =
+            "INSERT INTO resources (id, storage_key, size_bytes, checksum) VALUES (?, ?, ?, ?)";
+    private static final String NEXT_ID_SQL = "SELECT nextval('resources_id_seq')";
+    private static final String TRUNCATE_SQL = "TRUNCATE resources";
+
+    @Param({"identity", "pooled-sequence"})
+    private String strategy;
+
+    @Param({"1", "50", "500"})
+    private int rowsPerTransaction;
+
+    private BenchmarkDatabase database;
+    private Connection connection;
+    private PreparedStatement insertReturningId;
+    private PreparedStatement insertWithId;
+    private PreparedStatement nextId;
+    private String[] checksums;
+    private long nextPooledId;
+    private long pooledBlockEnd;
+
+    @Setup
+    public void setUp() throws SQLException {
+        int increment = "identity".equals(strategy) ? 1 : Resource.ID_ALLOCATION_SIZE;
+        database = BenchmarkDatabase.start(
+                CREATE_TABLE_SQL,
+                CREATE_INDEX_SQL,
+                "ALTER SEQUENCE resources_id_seq INCREMENT BY " + increment);
+        connection = database.connect(false);
+        insertReturningId = connection.prepareStatement(INSERT_RETURNING_ID_SQL);
+        insertWithId = connection.prepareStatement(INSERT_WITH_ID_SQL);
+        nextId = connection.prepareStatement(NEXT_ID_SQL);
+
+        HexFormat hex = HexFormat.of();
+        checksums = new String[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            byte[] digest = new byte[32];
+            for (int j = 0; j < digest.length; j++) {
+                digest[j] = (byte) (i * 31 + j * 17);
+            }
+            checksums[i] = hex.formatHex(digest);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        database.execute(connection, TRUNCATE_SQL);
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+        database.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertResources(Blackhole blackhole) throws SQLException {
+        if ("identity".equals(strategy)) {
+            insertWithIdentity(blackhole);
+        } else {
+            insertWithPooledSequence(blackhole);
+        }
+    }
+
+    private void insertWithIdentity(Blackhole blackhole) throws SQLException {
+        for (int i = 0; i < ROWS; i++) {
+            insertReturningId.setString(1, checksums[i]);
+            insertReturningId.setLong(2, i);
+            insertReturningId.setString(3, checksums[i]);
+            try (ResultSet generatedId = insertReturningId.executeQuery()) {
+                generatedId.next();
+                blackhole.consume(generatedId.getLong(1));
+            }
+            if ((i + 1) % rowsPerTransaction == 0) {
+                connection.commit();
+            }
+        }
+        connection.commit();
+    }
+
+    private void insertWithPooledSequence(Blackhole blackhole) throws SQLException {
+        int batched = 0;
+        for (int i = 0; i < ROWS; i++) {
+            long id = allocatePooledId();
+            blackhole.consume(id);
+            insertWithId.setLong(1, id);
+            insertWithId.setString(2, checksums[i]);
+            insertWithId.setLong(3, i);
+            insertWithId.setString(4, checksums[i]);
+            insertWithId.addBatch();
+            batched++;
+
+            boolean endOfTransaction = (i + 1) % rowsPerTransaction == 0;
+            if (batched == Resource.ID_ALLOCATION_SIZE || endOfTransaction) {
+                insertWithId.executeBatch();
+                batched = 0;
+            }
+            if (endOfTransaction) {
+                connection.commit();
+            }
+        }
+        if (batched > 0) {
+            insertWithId.executeBatch();
+        }
+        connection.commit();
+    }
+
+    // Same pooled scheme as ResourceRepositoryImpl: every nextval() reserves the ID_ALLOCATION_SIZE values ending at it.
+    private long allocatePooledId() throws SQLException {
+        if (nextPooledId == 0 || nextPooledId > pooledBlockEnd) {
+            try (ResultSet resultSet = nextId.executeQuery()) {
+                resultSet.next();
+                pooledBlockEnd = resultSet.getLong(1);
+            }
+            nextPooledId = Math.max(1, pooledBlockEnd - Resource.ID_ALLOCATION_SIZE + 1);
+        }
+        return nextPooledId++;
+    }
+}
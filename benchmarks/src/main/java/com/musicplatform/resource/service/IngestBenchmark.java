@@ -0,0 +1,66 @@
+package com.musicplatform.resource.service;
+
+import com.musicplatform.benchmarks.Corpus;
+import com.musicplatform.resource.metadata.Mp3MetadataExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Measures the per-upload work of ResourceService.create() up to, but excluding, blob storage and persistence.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IngestBenchmark {
+
+    private static final int CHUNK_SIZE = 65536;
+    private static final int SNIFF_SIZE = 65536;
+    private static final long MAX_SIZE = 104857600;
+
+    @Param({Corpus.ID3V23_CBR, Corpus.ID3V24_XING_VBR, Corpus.ID3V1_CBR})
+    private String sample;
+
+    @Param({"native", "tika"})
+    private String engine;
+
+    private AudioSpooler audioSpooler;
+    private Mp3MetadataExtractor extractor;
+    private byte[] audio;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path spoolDirectory = Files.createTempDirectory("ingest-benchmark-");
+        spoolDirectory.toFile().deleteOnExit();
+        audioSpooler = new AudioSpooler(spoolDirectory, CHUNK_SIZE, SNIFF_SIZE, MAX_SIZE);
+        extractor = new Mp3MetadataExtractor(engine);
+        audio = Corpus.read(sample);
+    }
+
+    @Benchmark
+    public Map<String, String> spoolValidateAndExtract(Blackhole blackhole) throws IOException {
+        try (SpooledAudio spooledAudio = audioSpooler.open(new ByteArrayInputStream(audio))) {
+            extractor.validate(spooledAudio.head());
+            spooledAudio.drain();
+            blackhole.consume(spooledAudio.checksum());
+            return extractor.extract(spooledAudio.path());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.musicplatform.song.repository;
+
+import com.musicplatform.benchmarks.BenchmarkDatabase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+// Single-song creates per second, each in its own transaction, as the JDBC statements SongService.create issues:
+// - select-then-insert: existsById, then the SELECT that save() runs for an assigned ID, then the INSERT
+// - insert-on-conflict: one INSERT ... ON CONFLICT (id) DO NOTHING, a zero update count meaning a duplicate
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SongInsertBenchmark {
+
+    private static final int ROWS = 100;
+
+    private static final String CREATE_TABLE_SQL = """
+            CREATE TABLE songs
+            (
+                id       BIGINT PRIMARY KEY,
+                name     VARCHAR(100) NOT NULL,
+                artist   VARCHAR(100) NOT NULL,
+                album    VARCHAR(100) NOT NULL,
+                duration VARCHAR(5)   NOT NULL,
+                year     VARCHAR(4)   NOT NULL
+            )""";
+    private static final String EXISTS_SQL = "SELECT count(*) FROM songs WHERE id = ?";
+    private static final String SELECT_BY_ID_SQL = "SELECT id, name, artist, album, duration, year FROM songs WHERE id = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO songs (id, name, artist, album, duration, year) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_IF_ABSENT_SQL = INSERT_SQL + " ON CONFLICT (id) DO NOTHING";
+
+    @Param({"select-then-insert", "insert-on-conflict"})
+    private String strategy;
+
+    private BenchmarkDatabase database;
+    private Connection connection;
+    private PreparedStatement exists;
+    private PreparedStatement selectById;
+    private PreparedStatement insert;
+    private PreparedStatement insertIfAbsent;
+    private long nextId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        database = BenchmarkDatabase.start(CREATE_TABLE_SQL);
+        connection = database.connect(false);
+        exists = connection.prepareStatement(EXISTS_SQL);
+        selectById = connection.prepareStatement(SELECT_BY_ID_SQL);
+        insert = connection.prepareStatement(INSERT_SQL);
+        insertIfAbsent = connection.prepareStatement(INSERT_IF_ABSENT_SQL);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+        database.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void createSongs(Blackhole blackhole) throws SQLException {
+        boolean selectThenInsert = "select-then-insert".equals(strategy);
+        for (int i = 0; i < ROWS; i++) {
+            long id = ++nextId;
+            blackhole.consume(selectThenInsert ? selectThenInsert(id) : insertIfAbsent(id));
+            connection.commit();
+        }
+    }
+
+    private boolean selectThenInsert(long id) throws SQLException {
+        exists.setLong(1, id);
+        try (ResultSet resultSet = exists.executeQuery()) {
+            resultSet.next();
+            if (resultSet.getLong(1) > 0) {
+                return false;
+            }
+        }
+
+        selectById.setLong(1, id);
+        try (ResultSet resultSet = selectById.executeQuery()) {
+            if (resultSet.next()) {
+                return false;
+            }
+        }
+
+        bind(insert, id);
+        return insert.executeUpdate() == 1;
+    }
+
+    private boolean insertIfAbsent(long id) throws SQLException {
+        bind(insertIfAbsent, id);
+        return insertIfAbsent.executeUpdate() == 1;
+    }
+
+    private static void bind(PreparedStatement statement, long id) throws SQLException {
+        statement.setLong(1, id);
+        statement.setString(2, "Song " + id);
+        statement.setString(3, "Artist " + (id % 100));
+        statement.setString(4, "Album " + (id % 1000));
+        statement.setString(5, "03:25");
+        statement.setString(6, "1999");
+    }
+}
@@ -0,0 +1,45 @@
+package com.musicplatform.song.service;
+
+import com.musicplatform.song.dto.CreateSongRequest;
+import com.musicplatform.song.dto.SongResponse;
+import com.musicplatform.song.entity.Song;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SongMappingBenchmark {
+
+    private Song song;
+    private CreateSongRequest createSongRequest;
+
+    @Setup
+    public void setUp() {
+        song = new Song(42L, "Synthetic Constant", "Benchmark Ensemble", "Corpus Sessions", "04:21", "1998");
+        createSongRequest = new CreateSongRequest(42L, "Synthetic Constant", "Benchmark Ensemble", "Corpus Sessions", "04:21", "1998");
+    }
+
+    @Benchmark
+    public SongResponse toDto() {
+        return SongService.toDto(song);
+    }
+
+    @Benchmark
+    public Song toEntity() {
+        return SongService.toEntity(createSongRequest);
+    }
+}
@@ -1,5 +1,76 @@
 CREATE TABLE IF NOT EXISTS resources
 (
-    id         BIGSERIAL PRIMARY KEY,
-    audio_data BYTEA NOT NULL
+    id          BIGSERIAL PRIMARY KEY,
+    storage_key VARCHAR(128),
+    size_bytes  BIGINT,
+    checksum    VARCHAR(64),
+    created_at  TIMESTAMPTZ NOT NULL DEFAULT now(),
+    audio_data  BYTEA
 );
+
+ALTER TABLE resources ADD COLUMN IF NOT EXISTS storage_key VARCHAR(128);
+ALTER TABLE resources ADD COLUMN IF NOT EXISTS size_bytes BIGINT;
+ALTER TABLE resources ADD COLUMN IF NOT EXISTS checksum VARCHAR(64);
+ALTER TABLE resources ADD COLUMN IF NOT EXISTS created_at TIMESTAMPTZ NOT NULL DEFAULT now();
+ALTER TABLE resources ALTER COLUMN audio_data DROP NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_resources_storage_key ON resources (storage_key);
+
+CREATE TABLE IF NOT EXISTS resource_blobs
+(
+    storage_key VARCHAR(128) PRIMARY KEY,
+    data        BYTEA NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS audio_blobs
+(
+    checksum     VARCHAR(64) PRIMARY KEY,
+    storage_key  VARCHAR(128) NOT NULL,
+    size_bytes   BIGINT       NOT NULL,
+    ref_count    INT          NOT NULL,
+    has_metadata BOOLEAN      NOT NULL DEFAULT false,
+    name         VARCHAR(255),
+    artist       VARCHAR(255),
+    album        VARCHAR(255),
+    duration     VARCHAR(16),
+    year         VARCHAR(16),
+    created_at   TIMESTAMPTZ  NOT NULL DEFAULT now()
+);
+
+-- resources stored before deduplication each hold one reference to the blob of their content
+INSERT INTO audio_blobs (checksum, storage_key, size_bytes, ref_count)
+SELECT checksum, min(storage_key), max(size_bytes), count(*)
+FROM resources
+WHERE checksum IS NOT NULL AND storage_key IS NOT NULL
+GROUP BY checksum
+ON CONFLICT (checksum) DO NOTHING;
+
+CREATE TABLE IF NOT EXISTS audio_fingerprints
+(
+    resource_id BIGINT PRIMARY KEY REFERENCES resources (id) ON DELETE CASCADE,
+    checksum    VARCHAR(64) NOT NULL,
+    sketch      INT[]       NOT NULL,
+    created_at  TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_audio_fingerprints_checksum ON audio_fingerprints (checksum);
+
+CREATE TABLE IF NOT EXISTS song_metadata_outbox
+(
+    resource_id     BIGINT PRIMARY KEY,
+    name            VARCHAR(255),
+    artist          VARCHAR(255),
+    album           VARCHAR(255),
+    duration        VARCHAR(16),
+    year            VARCHAR(16),
+    status          VARCHAR(16) NOT NULL DEFAULT 'PENDING',
+    attempts        INT         NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    last_error      VARCHAR(500),
+    created_at      TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_song_metadata_outbox_due ON song_metadata_outbox (next_attempt_at) WHERE status = 'PENDING';
+
+-- matches Resource.ID_ALLOCATION_SIZE so Hibernate's pooled optimizer can hand out IDs without a round trip each
+ALTER SEQUENCE resources_id_seq INCREMENT BY 50;
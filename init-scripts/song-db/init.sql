@@ -7,3 +7,10 @@ CREATE TABLE IF NOT EXISTS songs
     duration VARCHAR(5)   NOT NULL,
     year     VARCHAR(4)   NOT NULL
 );
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_songs_artist_id ON songs (artist, id);
+CREATE INDEX IF NOT EXISTS idx_songs_album_id ON songs (album, id);
+CREATE INDEX IF NOT EXISTS idx_songs_year_id ON songs (year, id);
+CREATE INDEX IF NOT EXISTS idx_songs_name_trgm ON songs USING gin (lower(name) gin_trgm_ops);
@@ -0,0 +1,43 @@
+package com.musicplatform.loadtest;
+
+import com.musicplatform.benchmarks.Corpus;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Every upload gets distinct bytes so content-addressed storage cannot turn the upload path into a no-op.
+// The untagged sample is left out because song-service rejects metadata without a name, artist and album.
+class AudioSamples {
+
+    private static final int ID3V1_TAG_LENGTH = 128;
+    private static final int STAMP_DISTANCE_FROM_END = 16;
+
+    private final List<byte[]> samples;
+    private final AtomicLong sequence = new AtomicLong();
+
+    AudioSamples() {
+        this.samples = Corpus.SAMPLES.stream()
+                .filter(sample -> !sample.equals(Corpus.UNTAGGED_CBR))
+                .map(Corpus::read)
+                .toList();
+    }
+
+    byte[] next() {
+        long stamp = sequence.getAndIncrement();
+        byte[] sample = samples.get((int) (stamp % samples.size()));
+        byte[] audio = sample.clone();
+        ByteBuffer.wrap(audio).putLong(stampOffset(audio), stamp ^ System.nanoTime());
+        return audio;
+    }
+
+    // Writes into the payload of the last audio frame, which the metadata readers never interpret.
+    private int stampOffset(byte[] audio) {
+        int end = audio.length;
+        if (end >= ID3V1_TAG_LENGTH && audio[end - ID3V1_TAG_LENGTH] == 'T'
+                && audio[end - ID3V1_TAG_LENGTH + 1] == 'A' && audio[end - ID3V1_TAG_LENGTH + 2] == 'G') {
+            end -= ID3V1_TAG_LENGTH;
+        }
+        return end - STAMP_DISTANCE_FROM_END;
+    }
+}
@@ -0,0 +1,71 @@
+package com.musicplatform.loadtest;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// In-memory exporter shared by both in-process services; spans are kept only while a capture is open,
+// so it does not grow for the length of a load run.
+class CapturingSpanExporter implements SpanExporter {
+
+    private final List<SpanData> captured = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private boolean capturing;
+
+    void startCapture() {
+        lock.lock();
+        try {
+            captured.clear();
+            capturing = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void stopCapture() {
+        lock.lock();
+        try {
+            capturing = false;
+            captured.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<SpanData> capturedSpans() {
+        lock.lock();
+        try {
+            return List.copyOf(captured);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        lock.lock();
+        try {
+            if (capturing) {
+                captured.addAll(spans);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+}
@@ -0,0 +1,59 @@
+package com.musicplatform.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Degrades song-service from inside its own servlet chain. Only the configured methods are affected, so by default
+// the calls resource-service makes (POST /songs/batch, DELETE /songs) slow down or fail while the harness's direct
+// metadata reads keep measuring song-service itself. Stays inactive until the harness switches it on after seeding.
+class DownstreamFaultFilter extends OncePerRequestFilter {
+
+    private final Duration delay;
+    private final double errorRate;
+    private final Set<String> methods;
+    private volatile boolean active;
+
+    DownstreamFaultFilter(Duration delay, double errorRate, Set<String> methods) {
+        this.delay = delay;
+        this.errorRate = errorRate;
+        this.methods = methods;
+    }
+
+    void activate() {
+        active = true;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !active || !methods.contains(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!delay.isZero()) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+                return;
+            }
+        }
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,112 @@
+package com.musicplatform.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// Writes per-stage, per-endpoint percentile distributions (.hgrm, milliseconds), an HdrHistogram log and a CSV summary.
+class LatencyReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final String ROW_FORMAT = "%-10s %-30s %10s %10s %8s %8s %10s %10s %10s %10s%n";
+
+    private final Path outputDirectory;
+
+    LatencyReport(Path outputDirectory) {
+        this.outputDirectory = outputDirectory;
+    }
+
+    void write(List<StageResult> stages, SaturationSearch.Outcome saturation) {
+        try {
+            Files.createDirectories(outputDirectory);
+            writeHistograms(stages);
+            writeSummary(stages);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write load test results to " + outputDirectory, e);
+        }
+
+        printSummary(stages, System.out);
+        if (saturation != null) {
+            printSaturation(saturation, System.out);
+        }
+        System.out.println("Results written to " + outputDirectory.toAbsolutePath());
+    }
+
+    private void writeHistograms(List<StageResult> stages) throws FileNotFoundException {
+        try (PrintStream log = new PrintStream(outputDirectory.resolve("latency.hlog").toFile())) {
+            HistogramLogWriter logWriter = new HistogramLogWriter(log);
+            logWriter.outputLogFormatVersion();
+            logWriter.outputLegend();
+
+            for (StageResult stage : stages) {
+                for (OperationStats stats : stage.operations().values()) {
+                    String tag = stage.label() + "/" + stats.operation().key();
+                    Histogram histogram = stats.responseTimeMicros();
+                    histogram.setTag(tag);
+                    logWriter.outputIntervalHistogram(histogram);
+
+                    Path distribution = outputDirectory.resolve(stage.label() + "-" + stats.operation().key() + ".hgrm");
+                    try (PrintStream output = new PrintStream(distribution.toFile())) {
+                        histogram.outputPercentileDistribution(output, MICROS_PER_MILLI);
+                    }
+                }
+            }
+        }
+    }
+
+    private void writeSummary(List<StageResult> stages) throws FileNotFoundException {
+        try (PrintStream csv = new PrintStream(outputDirectory.resolve("summary.csv").toFile())) {
+            csv.println("stage,multiplier,operation,target_rate,achieved_rate,succeeded,failed,skipped,"
+                    + "p50_ms,p90_ms,p99_ms,p999_ms,max_ms,service_p99_ms");
+            for (StageResult stage : stages) {
+                for (OperationStats stats : stage.operations().values()) {
+                    csv.printf("%s,%.3f,%s,%.3f,%.3f,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                            stage.label(), stage.multiplier(), stats.operation().key(),
+                            stats.targetRate(), stats.achievedRate(),
+                            stats.succeeded(), stats.failed(), stats.skipped(),
+                            stats.responseTimePercentileMillis(50), stats.responseTimePercentileMillis(90),
+                            stats.responseTimePercentileMillis(99), stats.responseTimePercentileMillis(99.9),
+                            stats.responseTimePercentileMillis(100), stats.serviceTimePercentileMillis(99));
+                }
+            }
+        }
+    }
+
+    private void printSummary(List<StageResult> stages, PrintStream output) {
+        output.printf(ROW_FORMAT, "stage", "endpoint", "target/s", "actual/s", "errors", "skipped",
+                "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (StageResult stage : stages) {
+            for (OperationStats stats : stage.operations().values()) {
+                output.printf(ROW_FORMAT, stage.label(), stats.operation().endpoint(),
+                        String.format("%.1f", stats.targetRate()), String.format("%.1f", stats.achievedRate()),
+                        stats.failed(), stats.skipped(),
+                        String.format("%.1f", stats.responseTimePercentileMillis(50)),
+                        String.format("%.1f", stats.responseTimePercentileMillis(99)),
+                        String.format("%.1f", stats.responseTimePercentileMillis(99.9)),
+                        String.format("%.1f", stats.responseTimePercentileMillis(100)));
+            }
+        }
+    }
+
+    private void printSaturation(SaturationSearch.Outcome saturation, PrintStream output) {
+        if (saturation.lastSustained() != null) {
+            output.printf("Highest sustained load: x%.2f (%s)%n",
+                    saturation.lastSustained().multiplier(), saturation.lastSustained().label());
+        } else {
+            output.println("Highest sustained load: none, the first stage already missed its objectives");
+        }
+        if (saturation.saturated() != null) {
+            output.printf("Saturation point: x%.2f (%s): %s%n",
+                    saturation.saturated().multiplier(), saturation.saturated().label(), saturation.violation());
+        } else {
+            output.println("Saturation point: not reached; raise load.saturation.max-stages or the base rates");
+        }
+    }
+}
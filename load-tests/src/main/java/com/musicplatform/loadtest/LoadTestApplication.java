@@ -0,0 +1,83 @@
+package com.musicplatform.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class LoadTestApplication {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestApplication.class);
+    private static final Duration SONG_METADATA_PROPAGATION_TIMEOUT = Duration.ofSeconds(60);
+    private static final long PROPAGATION_POLL_MILLIS = 250;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        try (ServiceTopology topology = ServiceTopology.start(settings);
+             ExecutorService requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(requestExecutor)
+                     .build()) {
+
+            LoadTestClient client = new LoadTestClient(
+                    httpClient, topology.resourceServiceUri(), topology.songServiceUri(), settings.requestTimeout());
+            AudioSamples audioSamples = new AudioSamples();
+            ResourcePool resourcePool = new ResourcePool();
+            seed(client, audioSamples, resourcePool, settings.seedResources());
+            if (settings.verifyTracePropagation()) {
+                new TracePropagationCheck(client, audioSamples, topology.spanExporter()).verify();
+            }
+            if (settings.degraded()) {
+                topology.degradeSongService(settings);
+            }
+
+            WorkloadDriver driver = new WorkloadDriver(client, resourcePool, audioSamples, requestExecutor, settings);
+            if (!settings.warmup().isZero()) {
+                driver.run("warmup", settings.saturationStartMultiplier(), settings.warmup());
+            }
+
+            LatencyReport report = new LatencyReport(settings.outputDirectory());
+            if (settings.mode() == LoadTestSettings.Mode.SATURATION) {
+                SaturationSearch.Outcome outcome = new SaturationSearch(driver, settings).run();
+                report.write(outcome.stages(), outcome);
+            } else {
+                report.write(List.of(driver.run("fixed", 1, settings.stageDuration())), null);
+            }
+        }
+    }
+
+    // Reads only target seeded resources, so their song metadata has to reach song-service through the outbox first.
+    private static void seed(LoadTestClient client, AudioSamples audioSamples, ResourcePool resourcePool, int count)
+            throws IOException, InterruptedException {
+
+        logger.info("Seeding {} resources", count);
+        for (int i = 0; i < count; i++) {
+            byte[] audio = audioSamples.next();
+            OptionalLong id = client.upload(audio);
+            if (id.isEmpty()) {
+                throw new IllegalStateException("Seed upload was rejected by resource-service");
+            }
+            resourcePool.addSeeded(id.getAsLong(), audio.length);
+        }
+
+        long deadline = System.nanoTime() + SONG_METADATA_PROPAGATION_TIMEOUT.toNanos();
+        for (ResourcePool.SeededResource resource : resourcePool.seeded()) {
+            while (!client.getSongMetadata(resource.id())) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Song metadata for seeded resource " + resource.id()
+                            + " did not reach song-service within " + SONG_METADATA_PROPAGATION_TIMEOUT);
+                }
+                Thread.sleep(PROPAGATION_POLL_MILLIS);
+            }
+        }
+        logger.info("Seeded resources are visible in song-service");
+    }
+}
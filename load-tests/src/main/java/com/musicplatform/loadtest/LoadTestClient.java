@@ -0,0 +1,73 @@
+package com.musicplatform.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+class LoadTestClient {
+
+    private static final String AUDIO_MPEG = "audio/mpeg";
+    private static final int MAX_RANGE_LENGTH = 16384;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI resourceServiceUri;
+    private final URI songServiceUri;
+    private final Duration requestTimeout;
+
+    LoadTestClient(HttpClient httpClient, URI resourceServiceUri, URI songServiceUri, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.resourceServiceUri = resourceServiceUri;
+        this.songServiceUri = songServiceUri;
+        this.requestTimeout = requestTimeout;
+    }
+
+    OptionalLong upload(byte[] audio) throws IOException, InterruptedException {
+        HttpRequest request = request(resourceServiceUri.resolve("/resources"))
+                .header("Content-Type", AUDIO_MPEG)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(audio))
+                .build();
+
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(objectMapper.readTree(response.body()).get("id").asLong());
+    }
+
+    boolean rangedDownload(ResourcePool.SeededResource resource) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int start = random.nextInt(resource.size());
+        int end = Math.min(resource.size() - 1, start + random.nextInt(MAX_RANGE_LENGTH));
+
+        HttpRequest request = request(resourceServiceUri.resolve("/resources/" + resource.id()))
+                .header("Range", "bytes=" + start + "-" + end)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 206;
+    }
+
+    boolean getSongMetadata(long id) throws IOException, InterruptedException {
+        HttpRequest request = request(songServiceUri.resolve("/songs/" + id)).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+
+    boolean deleteResources(List<Long> ids) throws IOException, InterruptedException {
+        String csvIds = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        HttpRequest request = request(resourceServiceUri.resolve("/resources?id=" + csvIds)).DELETE().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+
+    private HttpRequest.Builder request(URI uri) {
+        return HttpRequest.newBuilder(uri).timeout(requestTimeout);
+    }
+}
@@ -0,0 +1,140 @@
+package com.musicplatform.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+record LoadTestSettings(
+        Mode mode,
+        Map<Operation, Double> rates,
+        int bulkDeleteSize,
+        int seedResources,
+        Duration warmup,
+        Duration stageDuration,
+        double saturationStartMultiplier,
+        double saturationStepFactor,
+        int saturationMaxStages,
+        Duration p99Objective,
+        double maxErrorRate,
+        double minAchievedRateRatio,
+        Duration requestTimeout,
+        boolean verifyTracePropagation,
+        Duration degradedDelay,
+        double degradedErrorRate,
+        Set<String> degradedMethods,
+        String postgresImage,
+        Path initScriptsDirectory,
+        Path outputDirectory,
+        Map<String, Object> resourceServiceOverrides,
+        Map<String, Object> songServiceOverrides) {
+
+    private static final String PREFIX = "load.";
+    private static final String RESOURCE_SERVICE_PREFIX = PREFIX + "resource-service.";
+    private static final String SONG_SERVICE_PREFIX = PREFIX + "song-service.";
+    private static final String SHARED_SERVICE_PREFIX = PREFIX + "services.";
+
+    enum Mode {
+        FIXED,
+        SATURATION
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        Properties properties = System.getProperties();
+
+        Map<Operation, Double> rates = new EnumMap<>(Operation.class);
+        rates.put(Operation.UPLOAD, doubleProperty(properties, "rate.upload", 5));
+        rates.put(Operation.RANGED_DOWNLOAD, doubleProperty(properties, "rate.ranged-download", 40));
+        rates.put(Operation.METADATA_GET, doubleProperty(properties, "rate.metadata-get", 40));
+        rates.put(Operation.BULK_DELETE, doubleProperty(properties, "rate.bulk-delete", 0.5));
+
+        Map<String, Object> sharedOverrides = prefixed(properties, SHARED_SERVICE_PREFIX);
+        Map<String, Object> resourceServiceOverrides = new HashMap<>(sharedOverrides);
+        resourceServiceOverrides.putAll(prefixed(properties, RESOURCE_SERVICE_PREFIX));
+        Map<String, Object> songServiceOverrides = new HashMap<>(sharedOverrides);
+        songServiceOverrides.putAll(prefixed(properties, SONG_SERVICE_PREFIX));
+
+        return new LoadTestSettings(
+                Mode.valueOf(property(properties, "mode", "saturation").toUpperCase(Locale.ROOT)),
+                rates,
+                (int) doubleProperty(properties, "bulk-delete.size", 10),
+                (int) doubleProperty(properties, "seed.resources", 50),
+                durationProperty(properties, "warmup", "15s"),
+                durationProperty(properties, "stage.duration", "30s"),
+                doubleProperty(properties, "saturation.start-multiplier", 1),
+                doubleProperty(properties, "saturation.step-factor", 1.5),
+                (int) doubleProperty(properties, "saturation.max-stages", 10),
+                durationProperty(properties, "slo.p99", "500ms"),
+                doubleProperty(properties, "slo.max-error-rate", 0.01),
+                doubleProperty(properties, "slo.min-achieved-rate-ratio", 0.95),
+                durationProperty(properties, "request-timeout", "30s"),
+                Boolean.parseBoolean(property(properties, "tracing.verify", "true")),
+                durationProperty(properties, "degraded.delay", "0s"),
+                doubleProperty(properties, "degraded.error-rate", 0),
+                Arrays.stream(property(properties, "degraded.methods", "POST,DELETE").split(","))
+                        .map(method -> method.trim().toUpperCase(Locale.ROOT))
+                        .filter(method -> !method.isEmpty())
+                        .collect(Collectors.toUnmodifiableSet()),
+                property(properties, "postgres-image", "postgres:17-alpine"),
+                initScriptsDirectory(properties),
+                Path.of(property(properties, "output-dir", "target/load-results")),
+                resourceServiceOverrides,
+                songServiceOverrides);
+    }
+
+    boolean degraded() {
+        return !degradedDelay.isZero() || degradedErrorRate > 0;
+    }
+
+    double rate(Operation operation, double multiplier) {
+        return rates.getOrDefault(operation, 0.0) * multiplier;
+    }
+
+    private static String property(Properties properties, String name, String defaultValue) {
+        return properties.getProperty(PREFIX + name, defaultValue);
+    }
+
+    private static double doubleProperty(Properties properties, String name, double defaultValue) {
+        String value = properties.getProperty(PREFIX + name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    private static Duration durationProperty(Properties properties, String name, String defaultValue) {
+        return DurationStyle.detectAndParse(property(properties, name, defaultValue));
+    }
+
+    private static Map<String, Object> prefixed(Properties properties, String prefix) {
+        Map<String, Object> values = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(prefix)) {
+                values.put(name.substring(prefix.length()), properties.getProperty(name));
+            }
+        }
+        return values;
+    }
+
+    // Defaults to the repository's init-scripts directory, found by walking up from the working directory.
+    private static Path initScriptsDirectory(Properties properties) {
+        String configured = properties.getProperty(PREFIX + "init-scripts");
+        if (configured != null) {
+            return Path.of(configured).toAbsolutePath();
+        }
+
+        for (Path directory = Path.of("").toAbsolutePath(); directory != null; directory = directory.getParent()) {
+            Path candidate = directory.resolve("init-scripts");
+            if (Files.isDirectory(candidate)) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("Could not locate init-scripts; set -D" + PREFIX + "init-scripts");
+    }
+}
@@ -0,0 +1,25 @@
+package com.musicplatform.loadtest;
+
+enum Operation {
+
+    UPLOAD("upload", "POST /resources"),
+    RANGED_DOWNLOAD("ranged-download", "GET /resources/{id} (Range)"),
+    METADATA_GET("metadata-get", "GET /songs/{id}"),
+    BULK_DELETE("bulk-delete", "DELETE /resources?id=");
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,38 @@
+package com.musicplatform.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+
+// Response time is measured from the intended start, so queueing behind a slow request is not hidden
+// (coordinated omission); service time is measured from the actual send.
+record OperationStats(
+        Operation operation,
+        double targetRate,
+        Histogram responseTimeMicros,
+        Histogram serviceTimeMicros,
+        long succeeded,
+        long failed,
+        long skipped,
+        Duration elapsed) {
+
+    long completed() {
+        return succeeded + failed;
+    }
+
+    double achievedRate() {
+        return completed() / (elapsed.toNanos() / 1e9);
+    }
+
+    double errorRate() {
+        return completed() == 0 ? 0 : (double) failed / completed();
+    }
+
+    double responseTimePercentileMillis(double percentile) {
+        return responseTimeMicros.getTotalCount() == 0 ? 0 : responseTimeMicros.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    double serviceTimePercentileMillis(double percentile) {
+        return serviceTimeMicros.getTotalCount() == 0 ? 0 : serviceTimeMicros.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
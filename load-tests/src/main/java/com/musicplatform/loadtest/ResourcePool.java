@@ -0,0 +1,55 @@
+package com.musicplatform.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Seeded resources are only read; resources uploaded during a run are the only ones bulk deletes may remove.
+class ResourcePool {
+
+    private final List<SeededResource> seeded = new ArrayList<>();
+    private final List<Long> deletable = new ArrayList<>();
+    private final ReentrantLock deletableLock = new ReentrantLock();
+
+    record SeededResource(long id, int size) {
+    }
+
+    void addSeeded(long id, int size) {
+        seeded.add(new SeededResource(id, size));
+    }
+
+    SeededResource randomSeeded() {
+        return seeded.get(ThreadLocalRandom.current().nextInt(seeded.size()));
+    }
+
+    List<SeededResource> seeded() {
+        return List.copyOf(seeded);
+    }
+
+    void addDeletable(long id) {
+        deletableLock.lock();
+        try {
+            deletable.add(id);
+        } finally {
+            deletableLock.unlock();
+        }
+    }
+
+    List<Long> takeDeletable(int count) {
+        deletableLock.lock();
+        try {
+            List<Long> taken = new ArrayList<>(Math.min(count, deletable.size()));
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (taken.size() < count && !deletable.isEmpty()) {
+                int index = random.nextInt(deletable.size());
+                taken.add(deletable.get(index));
+                deletable.set(index, deletable.getLast());
+                deletable.removeLast();
+            }
+            return taken;
+        } finally {
+            deletableLock.unlock();
+        }
+    }
+}
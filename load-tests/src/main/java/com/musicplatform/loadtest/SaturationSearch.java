@@ -0,0 +1,48 @@
+package com.musicplatform.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// Raises every operation's rate geometrically until a stage misses the latency, error or throughput objective.
+class SaturationSearch {
+
+    private static final Logger logger = LoggerFactory.getLogger(SaturationSearch.class);
+
+    private final WorkloadDriver driver;
+    private final LoadTestSettings settings;
+
+    record Outcome(List<StageResult> stages, StageResult lastSustained, StageResult saturated, String violation) {
+    }
+
+    SaturationSearch(WorkloadDriver driver, LoadTestSettings settings) {
+        this.driver = driver;
+        this.settings = settings;
+    }
+
+    Outcome run() throws InterruptedException {
+        List<StageResult> stages = new ArrayList<>();
+        StageResult lastSustained = null;
+        double multiplier = settings.saturationStartMultiplier();
+
+        for (int stage = 1; stage <= settings.saturationMaxStages(); stage++) {
+            StageResult result = driver.run("stage-" + stage, multiplier, settings.stageDuration());
+            stages.add(result);
+
+            Optional<String> violation = result.objectiveViolation(settings);
+            if (violation.isPresent()) {
+                logger.info("Saturated at x{}: {}", String.format("%.2f", multiplier), violation.get());
+                return new Outcome(stages, lastSustained, result, violation.get());
+            }
+
+            lastSustained = result;
+            multiplier *= settings.saturationStepFactor();
+        }
+
+        logger.info("No saturation within {} stages", settings.saturationMaxStages());
+        return new Outcome(stages, lastSustained, null, null);
+    }
+}
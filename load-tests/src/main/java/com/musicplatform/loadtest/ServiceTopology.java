@@ -0,0 +1,188 @@
+package com.musicplatform.loadtest;
+
+import com.musicplatform.resource.ResourceServiceApplication;
+import com.musicplatform.song.SongServiceApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.web.context.support.StandardServletEnvironment;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.lifecycle.Startables;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+// Postgres runs in containers; both services run in this JVM, with a static discovery entry standing in for Eureka.
+class ServiceTopology implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceTopology.class);
+    private static final String APPLICATION_YAML = "application.yml";
+    private static final String INIT_SCRIPTS_PATH = "/docker-entrypoint-initdb.d/";
+
+    private final PostgreSQLContainer<?> resourceDb;
+    private final PostgreSQLContainer<?> songDb;
+    private ConfigurableApplicationContext songService;
+    private ConfigurableApplicationContext resourceService;
+    private URI songServiceUri;
+    private URI resourceServiceUri;
+
+    private final CapturingSpanExporter spanExporter = new CapturingSpanExporter();
+    private final DownstreamFaultFilter songServiceFaults;
+
+    private ServiceTopology(LoadTestSettings settings) {
+        this.resourceDb = postgres(settings, "resource-db");
+        this.songDb = postgres(settings, "song-db");
+        this.songServiceFaults = new DownstreamFaultFilter(
+                settings.degradedDelay(), settings.degradedErrorRate(), settings.degradedMethods());
+    }
+
+    static ServiceTopology start(LoadTestSettings settings) {
+        ServiceTopology topology = new ServiceTopology(settings);
+        try {
+            topology.startAll(settings);
+            return topology;
+        } catch (RuntimeException e) {
+            topology.close();
+            throw e;
+        }
+    }
+
+    URI resourceServiceUri() {
+        return resourceServiceUri;
+    }
+
+    URI songServiceUri() {
+        return songServiceUri;
+    }
+
+    CapturingSpanExporter spanExporter() {
+        return spanExporter;
+    }
+
+    void degradeSongService(LoadTestSettings settings) {
+        logger.info("Degrading song-service {} requests: {} delay, {}% errors", settings.degradedMethods(),
+                settings.degradedDelay(), settings.degradedErrorRate() * 100);
+        songServiceFaults.activate();
+    }
+
+    private void startAll(LoadTestSettings settings) {
+        logger.info("Starting Postgres containers from {}", settings.postgresImage());
+        Startables.deepStart(resourceDb, songDb).join();
+
+        Map<String, Object> songProperties = commonProperties("song-service", songDb);
+        songProperties.putAll(settings.songServiceOverrides());
+        songService = startService(SongServiceApplication.class, songProperties,
+                Map.of("downstreamFaultFilter", songServiceFaults));
+        songServiceUri = localUri(songService);
+        logger.info("song-service listening on {}", songServiceUri);
+
+        Map<String, Object> resourceProperties = commonProperties("resource-service", resourceDb);
+        resourceProperties.put("spring.cloud.discovery.client.simple.instances.song-service[0].uri", songServiceUri.toString());
+        resourceProperties.put("resource.storage.backend", "filesystem");
+        resourceProperties.put("resource.storage.filesystem.root", temporaryDirectory("resource-blobs-").toString());
+        resourceProperties.put("resource.upload.spool-dir", temporaryDirectory("resource-spool-").toString());
+        resourceProperties.putAll(settings.resourceServiceOverrides());
+        resourceService = startService(ResourceServiceApplication.class, resourceProperties, Map.of());
+        resourceServiceUri = localUri(resourceService);
+        logger.info("resource-service listening on {}", resourceServiceUri);
+    }
+
+    private Map<String, Object> commonProperties(String serviceName, PostgreSQLContainer<?> database) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.config.name", serviceName + "-load-test");
+        properties.put("spring.application.name", serviceName);
+        properties.put("spring.datasource.url", database.getJdbcUrl());
+        properties.put("spring.datasource.username", database.getUsername());
+        properties.put("spring.datasource.password", database.getPassword());
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("server.port", "0");
+        properties.put("eureka.client.enabled", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.musicplatform", "WARN");
+        properties.put("logging.level.com.musicplatform.loadtest", "INFO");
+        return properties;
+    }
+
+    // Both service jars ship an application.yml at the same path, so each context loads its own explicitly
+    // and ordinary config file lookup is pointed at a name that does not exist.
+    private ConfigurableApplicationContext startService(Class<?> application, Map<String, Object> overrides,
+                                                        Map<String, Object> extraBeans) {
+        StandardServletEnvironment environment = new StandardServletEnvironment();
+        MutablePropertySources propertySources = environment.getPropertySources();
+        propertySources.addFirst(new MapPropertySource("loadTestOverrides", overrides));
+        for (PropertySource<?> propertySource : loadApplicationYaml(application)) {
+            propertySources.addLast(propertySource);
+        }
+
+        return new SpringApplicationBuilder(application)
+                .environment(environment)
+                .initializers(context -> {
+                    context.getBeanFactory().registerSingleton("capturingSpanExporter", spanExporter);
+                    extraBeans.forEach(context.getBeanFactory()::registerSingleton);
+                })
+                .registerShutdownHook(false)
+                .run();
+    }
+
+    private Iterable<PropertySource<?>> loadApplicationYaml(Class<?> application) {
+        try {
+            URL location = application.getProtectionDomain().getCodeSource().getLocation();
+            URL applicationYaml = location.getPath().endsWith(".jar")
+                    ? URI.create("jar:" + location + "!/" + APPLICATION_YAML).toURL()
+                    : location.toURI().resolve(APPLICATION_YAML).toURL();
+            return new YamlPropertySourceLoader().load(application.getSimpleName() + " " + APPLICATION_YAML,
+                    new UrlResource(applicationYaml));
+        } catch (IOException | URISyntaxException e) {
+            throw new IllegalStateException("Could not load " + APPLICATION_YAML + " of " + application.getName(), e);
+        }
+    }
+
+    private URI localUri(ConfigurableApplicationContext context) {
+        return URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+    }
+
+    private static PostgreSQLContainer<?> postgres(LoadTestSettings settings, String database) {
+        return new PostgreSQLContainer<>(DockerImageName.parse(settings.postgresImage()).asCompatibleSubstituteFor("postgres"))
+                .withDatabaseName(database)
+                .withCopyFileToContainer(
+                        MountableFile.forHostPath(settings.initScriptsDirectory().resolve(database)), INIT_SCRIPTS_PATH);
+    }
+
+    private static Path temporaryDirectory(String prefix) {
+        try {
+            Path directory = Files.createTempDirectory(prefix);
+            directory.toFile().deleteOnExit();
+            return directory;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (resourceService != null) {
+            resourceService.close();
+        }
+        if (songService != null) {
+            songService.close();
+        }
+        resourceDb.stop();
+        songDb.stop();
+    }
+}
@@ -0,0 +1,31 @@
+package com.musicplatform.loadtest;
+
+import java.util.Map;
+import java.util.Optional;
+
+record StageResult(String label, double multiplier, Map<Operation, OperationStats> operations) {
+
+    // Bulk deletes skipped for lack of deletable resources do not count against the achieved rate.
+    Optional<String> objectiveViolation(LoadTestSettings settings) {
+        double p99ObjectiveMillis = settings.p99Objective().toNanos() / 1e6;
+
+        for (OperationStats stats : operations.values()) {
+            String name = stats.operation().key();
+            if (stats.responseTimePercentileMillis(99) > p99ObjectiveMillis) {
+                return Optional.of(String.format("%s p99 %.1f ms exceeds %.1f ms",
+                        name, stats.responseTimePercentileMillis(99), p99ObjectiveMillis));
+            }
+            if (stats.errorRate() > settings.maxErrorRate()) {
+                return Optional.of(String.format("%s error rate %.2f%% exceeds %.2f%%",
+                        name, stats.errorRate() * 100, settings.maxErrorRate() * 100));
+            }
+
+            double expectedRate = stats.targetRate() * (1 - (double) stats.skipped() / Math.max(1, stats.completed() + stats.skipped()));
+            if (stats.achievedRate() < expectedRate * settings.minAchievedRateRatio()) {
+                return Optional.of(String.format("%s achieved %.1f/s of %.1f/s targeted",
+                        name, stats.achievedRate(), expectedRate));
+            }
+        }
+        return Optional.empty();
+    }
+}
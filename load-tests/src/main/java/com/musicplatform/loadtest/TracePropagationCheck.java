@@ -0,0 +1,71 @@
+package com.musicplatform.loadtest;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// A bulk delete calls song-service synchronously, so its trace must contain spans from both services.
+class TracePropagationCheck {
+
+    private static final Logger logger = LoggerFactory.getLogger(TracePropagationCheck.class);
+    private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+    private static final Set<String> EXPECTED_SERVICES = Set.of("resource-service", "song-service");
+    private static final Duration EXPORT_TIMEOUT = Duration.ofSeconds(15);
+    private static final long POLL_MILLIS = 250;
+
+    private final LoadTestClient client;
+    private final AudioSamples audioSamples;
+    private final CapturingSpanExporter spanExporter;
+
+    TracePropagationCheck(LoadTestClient client, AudioSamples audioSamples, CapturingSpanExporter spanExporter) {
+        this.client = client;
+        this.audioSamples = audioSamples;
+        this.spanExporter = spanExporter;
+    }
+
+    void verify() throws IOException, InterruptedException {
+        spanExporter.startCapture();
+        try {
+            long id = client.upload(audioSamples.next())
+                    .orElseThrow(() -> new IllegalStateException("Trace check upload was rejected by resource-service"));
+            if (!client.deleteResources(List.of(id))) {
+                throw new IllegalStateException("Trace check delete of resource " + id + " failed");
+            }
+
+            long deadline = System.nanoTime() + EXPORT_TIMEOUT.toNanos();
+            Optional<Map.Entry<String, List<SpanData>>> crossServiceTrace;
+            while ((crossServiceTrace = findCrossServiceTrace()).isEmpty()) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("No trace spanning " + EXPECTED_SERVICES + " was exported within "
+                            + EXPORT_TIMEOUT + "; trace context is not propagated from resource-service to song-service");
+                }
+                Thread.sleep(POLL_MILLIS);
+            }
+
+            logger.info("Trace propagation verified: trace {} has {} spans across {}",
+                    crossServiceTrace.get().getKey(), crossServiceTrace.get().getValue().size(), EXPECTED_SERVICES);
+        } finally {
+            spanExporter.stopCapture();
+        }
+    }
+
+    private Optional<Map.Entry<String, List<SpanData>>> findCrossServiceTrace() {
+        return spanExporter.capturedSpans().stream()
+                .collect(Collectors.groupingBy(SpanData::getTraceId))
+                .entrySet().stream()
+                .filter(trace -> trace.getValue().stream()
+                        .map(span -> span.getResource().getAttribute(SERVICE_NAME))
+                        .collect(Collectors.toSet())
+                        .containsAll(EXPECTED_SERVICES))
+                .findFirst();
+    }
+}
@@ -0,0 +1,177 @@
+package com.musicplatform.loadtest;
+
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Open-loop driver: requests are issued on a fixed schedule per operation regardless of how many are still in flight.
+class WorkloadDriver {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkloadDriver.class);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final long DRAIN_POLL_MILLIS = 50;
+
+    private final LoadTestClient client;
+    private final ResourcePool resourcePool;
+    private final AudioSamples audioSamples;
+    private final ExecutorService requestExecutor;
+    private final LoadTestSettings settings;
+
+    private enum Outcome {
+        SUCCEEDED,
+        FAILED,
+        SKIPPED
+    }
+
+    WorkloadDriver(LoadTestClient client,
+                   ResourcePool resourcePool,
+                   AudioSamples audioSamples,
+                   ExecutorService requestExecutor,
+                   LoadTestSettings settings) {
+        this.client = client;
+        this.resourcePool = resourcePool;
+        this.audioSamples = audioSamples;
+        this.requestExecutor = requestExecutor;
+        this.settings = settings;
+    }
+
+    StageResult run(String label, double multiplier, Duration duration) throws InterruptedException {
+        List<OperationRun> runs = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            double rate = settings.rate(operation, multiplier);
+            if (rate > 0) {
+                runs.add(new OperationRun(operation, rate));
+            }
+        }
+        logger.info("Stage '{}': x{} for {} ({})", label, String.format("%.2f", multiplier), duration,
+                runs.stream().map(run -> String.format("%s %.1f/s", run.operation.key(), run.rate)).toList());
+
+        long startNanos = System.nanoTime();
+        List<Thread> schedulers = new ArrayList<>();
+        for (OperationRun run : runs) {
+            schedulers.add(Thread.ofPlatform()
+                    .name("load-scheduler-" + run.operation.key())
+                    .start(() -> schedule(run, startNanos, duration.toNanos())));
+        }
+        for (Thread scheduler : schedulers) {
+            scheduler.join();
+        }
+        awaitInFlight(runs);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        Map<Operation, OperationStats> operations = new EnumMap<>(Operation.class);
+        runs.forEach(run -> operations.put(run.operation, run.toStats(elapsed)));
+        return new StageResult(label, multiplier, operations);
+    }
+
+    private void schedule(OperationRun run, long startNanos, long durationNanos) {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / run.rate);
+        for (long intendedStartNanos = startNanos;
+             intendedStartNanos - startNanos < durationNanos;
+             intendedStartNanos += intervalNanos) {
+
+            long waitNanos = intendedStartNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            long scheduledAt = intendedStartNanos;
+            run.submitted.increment();
+            requestExecutor.execute(() -> execute(run, scheduledAt));
+        }
+    }
+
+    private void execute(OperationRun run, long intendedStartNanos) {
+        long sendNanos = System.nanoTime();
+        Outcome outcome;
+        try {
+            outcome = perform(run.operation);
+        } catch (IOException | RuntimeException e) {
+            logger.debug("{} failed", run.operation.key(), e);
+            outcome = Outcome.FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = Outcome.FAILED;
+        }
+        long endNanos = System.nanoTime();
+
+        switch (outcome) {
+            case SUCCEEDED -> {
+                run.responseTime.recordValue(TimeUnit.NANOSECONDS.toMicros(endNanos - intendedStartNanos));
+                run.serviceTime.recordValue(TimeUnit.NANOSECONDS.toMicros(endNanos - sendNanos));
+                run.succeeded.increment();
+            }
+            case FAILED -> run.failed.increment();
+            case SKIPPED -> run.skipped.increment();
+        }
+        run.finished.increment();
+    }
+
+    private Outcome perform(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case UPLOAD -> {
+                OptionalLong id = client.upload(audioSamples.next());
+                id.ifPresent(resourcePool::addDeletable);
+                yield id.isPresent() ? Outcome.SUCCEEDED : Outcome.FAILED;
+            }
+            case RANGED_DOWNLOAD -> outcome(client.rangedDownload(resourcePool.randomSeeded()));
+            case METADATA_GET -> outcome(client.getSongMetadata(resourcePool.randomSeeded().id()));
+            case BULK_DELETE -> {
+                List<Long> ids = resourcePool.takeDeletable(settings.bulkDeleteSize());
+                yield ids.isEmpty() ? Outcome.SKIPPED : outcome(client.deleteResources(ids));
+            }
+        };
+    }
+
+    private Outcome outcome(boolean succeeded) {
+        return succeeded ? Outcome.SUCCEEDED : Outcome.FAILED;
+    }
+
+    // Requests still outstanding after the request timeout are abandoned and left out of the stage.
+    private void awaitInFlight(List<OperationRun> runs) throws InterruptedException {
+        long deadline = System.nanoTime() + settings.requestTimeout().toNanos();
+        while (runs.stream().anyMatch(OperationRun::hasInFlight) && System.nanoTime() < deadline) {
+            Thread.sleep(DRAIN_POLL_MILLIS);
+        }
+    }
+
+    private static class OperationRun {
+
+        private final Operation operation;
+        private final double rate;
+        private final Recorder responseTime = new Recorder(SIGNIFICANT_DIGITS);
+        private final Recorder serviceTime = new Recorder(SIGNIFICANT_DIGITS);
+        private final LongAdder submitted = new LongAdder();
+        private final LongAdder finished = new LongAdder();
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+
+        private OperationRun(Operation operation, double rate) {
+            this.operation = operation;
+            this.rate = rate;
+        }
+
+        private boolean hasInFlight() {
+            return finished.sum() < submitted.sum();
+        }
+
+        private OperationStats toStats(Duration elapsed) {
+            return new OperationStats(operation, rate,
+                    responseTime.getIntervalHistogram(), serviceTime.getIntervalHistogram(),
+                    succeeded.sum(), failed.sum(), skipped.sum(), elapsed);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.musicplatform.resource.client;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+public enum LoadBalancingStrategy {
+
+    ROUND_ROBIN,
+    LEAST_OUTSTANDING,
+    LATENCY_WEIGHTED;
+
+    public static LoadBalancingStrategy from(String value) {
+        String normalized = value.trim().replace('-', '_').toUpperCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(strategy -> strategy.name().equals(normalized))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown load balancing strategy: " + value));
+    }
+}
@@ -1,16 +1,31 @@
 package com.musicplatform.resource.client;
 
+import com.musicplatform.resource.dto.CreateSongBatchResponse;
+import com.musicplatform.resource.dto.SongMetadataRequest;
 import com.musicplatform.resource.exception.DataProcessingException;
+import com.musicplatform.resource.exception.SongServiceUnavailableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cloud.client.ServiceInstance;
-import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 
@@ -19,19 +34,31 @@ public class SongServiceClient {
 
     private static final Logger logger = LoggerFactory.getLogger(SongServiceClient.class);
     private static final String SONGS_ENDPOINT = "/songs";
+    private static final String BATCH_PATH = "/batch";
     private static final String ID_QUERY_PARAM = "?id=";
-    private static final String SONG_SERVICE_NAME = "song-service";
 
-    private final DiscoveryClient discoveryClient;
+    private final SongServiceInstances songServiceInstances;
     private final RestClient restClient;
+    private final CircuitBreaker circuitBreaker;
+    private final ExecutorService callExecutor;
+    private final Duration deadline;
 
     @Autowired
     public SongServiceClient(
-            DiscoveryClient discoveryClient,
-            RestClient.Builder restClientBuilder) {
+            SongServiceInstances songServiceInstances,
+            RestClient.Builder restClientBuilder,
+            ClientHttpRequestFactory songServiceRequestFactory,
+            CircuitBreaker songServiceCircuitBreaker,
+            @Qualifier("songServiceCallExecutor") ExecutorService songServiceCallExecutor,
+            @Value("${resource.song-service.http.deadline}") Duration deadline) {
 
-        this.discoveryClient = discoveryClient;
-        this.restClient = restClientBuilder.build();
+        this.songServiceInstances = songServiceInstances;
+        this.restClient = restClientBuilder
+                .requestFactory(songServiceRequestFactory)
+                .build();
+        this.circuitBreaker = songServiceCircuitBreaker;
+        this.callExecutor = songServiceCallExecutor;
+        this.deadline = deadline;
     }
 
     public void saveSongMetadata(Long resourceId, Map<String, String> metadata) {
@@ -43,33 +70,98 @@ public class SongServiceClient {
                 "duration", metadata.get("duration"),
                 "year", metadata.get("year"));
 
-        restClient.post()
-                .uri(getServiceUrl() + SONGS_ENDPOINT)
+        execute(serviceUrl -> restClient.post()
+                .uri(serviceUrl + SONGS_ENDPOINT)
                 .contentType(APPLICATION_JSON)
                 .body(requestBody)
                 .retrieve()
-                .onStatus(this::isFailedResponse, (request, response) -> {
-                    throw new DataProcessingException("Failed to save appropriate metadata for resource with ID: " + resourceId);
-                })
-                .toBodilessEntity();
+                .onStatus(this::isFailedResponse, failWith(
+                        "Failed to save appropriate metadata for resource with ID: " + resourceId))
+                .toBodilessEntity());
 
         logger.info("Successfully saved metadata for resource ID: {}", resourceId);
     }
 
+    public CreateSongBatchResponse saveSongMetadataBatch(List<SongMetadataRequest> songMetadataRequests) {
+        CreateSongBatchResponse response = execute(serviceUrl -> restClient.post()
+                .uri(serviceUrl + SONGS_ENDPOINT + BATCH_PATH)
+                .contentType(APPLICATION_JSON)
+                .body(Map.of("songs", songMetadataRequests))
+                .retrieve()
+                .onStatus(this::isFailedResponse, failWith(
+                        "Failed to save metadata batch of " + songMetadataRequests.size() + " songs"))
+                .body(CreateSongBatchResponse.class));
+
+        if (response == null) {
+            throw new DataProcessingException("Song service returned an empty response for a metadata batch");
+        }
+
+        logger.info("Saved metadata batch: {} created, {} already existing, {} rejected",
+                response.created().size(), response.existing().size(), response.rejected().size());
+        return response;
+    }
+
     public void deleteAllSongMetadataByIds(String csvIds) {
-        restClient.delete()
-                .uri(getServiceUrl() + SONGS_ENDPOINT + ID_QUERY_PARAM + csvIds)
+        execute(serviceUrl -> restClient.delete()
+                .uri(serviceUrl + SONGS_ENDPOINT + ID_QUERY_PARAM + csvIds)
                 .retrieve()
-                .toBodilessEntity();
+                .onStatus(this::isFailedResponse, failWith("Failed to delete song metadata"))
+                .toBodilessEntity());
     }
 
-    private String getServiceUrl() {
-        ServiceInstance instance = discoveryClient.getInstances(SONG_SERVICE_NAME)
-                .stream()
-                .findFirst()
-                .orElseThrow(() -> new DataProcessingException("No instances of '" + SONG_SERVICE_NAME + "' available"));
+    private <T> T execute(Function<String, T> call) {
+        try {
+            return circuitBreaker.executeSupplier(() -> executeWithinDeadline(call));
+        } catch (CallNotPermittedException e) {
+            throw new SongServiceUnavailableException("Song service circuit breaker is open", e);
+        }
+    }
+
+    private <T> T executeWithinDeadline(Function<String, T> call) {
+        SongServiceInstance instance = songServiceInstances.acquire();
+        Future<T> future = callExecutor.submit(() -> executeOn(instance, call));
+
+        try {
+            return future.get(deadline.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new SongServiceUnavailableException(String.format(
+                    "Song service instance %s did not respond within %d ms", instance.address(), deadline.toMillis()), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new SongServiceUnavailableException("Interrupted while waiting for song service", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new DataProcessingException("Song service call failed", e.getCause());
+        }
+    }
+
+    private <T> T executeOn(SongServiceInstance instance, Function<String, T> call) {
+        long startNanos = System.nanoTime();
+        boolean success = false;
+
+        try {
+            T result = call.apply(instance.baseUrl());
+            success = true;
+            return result;
+        } catch (ResourceAccessException e) {
+            songServiceInstances.onConnectionFailure(instance);
+            throw e;
+        } finally {
+            instance.onRequestEnd(System.nanoTime() - startNanos, success);
+        }
+    }
 
-        return instance.getUri().toString();
+    private RestClient.ResponseSpec.ErrorHandler failWith(String message) {
+        return (request, response) -> {
+            if (response.getStatusCode().is5xxServerError()) {
+                throw new SongServiceUnavailableException(message + ": song service responded with " + response.getStatusCode());
+            }
+            throw new DataProcessingException(message);
+        };
     }
 
     private boolean isFailedResponse(HttpStatusCode status) {
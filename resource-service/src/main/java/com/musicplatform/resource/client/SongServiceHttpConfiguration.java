@@ -0,0 +1,122 @@
+package com.musicplatform.resource.client;
+
+import com.musicplatform.resource.exception.SongServiceUnavailableException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class SongServiceHttpConfiguration {
+
+    private static final String SONG_SERVICE_NAME = "song-service";
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient songServiceHttpClient(
+            @Value("${resource.song-service.http.max-connections}") int maxConnections,
+            @Value("${resource.song-service.http.max-connections-per-route}") int maxConnectionsPerRoute,
+            @Value("${resource.song-service.http.connect-timeout}") Duration connectTimeout,
+            @Value("${resource.song-service.http.connection-request-timeout}") Duration connectionRequestTimeout,
+            @Value("${resource.song-service.http.read-timeout}") Duration readTimeout,
+            @Value("${resource.song-service.http.keep-alive}") Duration keepAlive,
+            @Value("${resource.song-service.http.connection-ttl}") Duration connectionTtl,
+            @Value("${resource.song-service.http.idle-eviction}") Duration idleEviction) {
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(connectionTtl))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .setConnectionKeepAlive(TimeValue.of(keepAlive))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction))
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory songServiceRequestFactory(CloseableHttpClient songServiceHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(songServiceHttpClient);
+    }
+
+    @Bean
+    public CircuitBreaker songServiceCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${resource.song-service.circuit-breaker.failure-rate-threshold}") float failureRateThreshold,
+            @Value("${resource.song-service.circuit-breaker.slow-call-duration-threshold}") Duration slowCallDurationThreshold,
+            @Value("${resource.song-service.circuit-breaker.sliding-window-size}") int slidingWindowSize,
+            @Value("${resource.song-service.circuit-breaker.minimum-number-of-calls}") int minimumNumberOfCalls,
+            @Value("${resource.song-service.circuit-breaker.wait-duration-in-open-state}") Duration waitDurationInOpenState,
+            @Value("${resource.song-service.circuit-breaker.permitted-calls-in-half-open-state}") int permittedCallsInHalfOpenState) {
+
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDurationThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                .recordException(e -> e instanceof ResourceAccessException || e instanceof SongServiceUnavailableException)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        return registry.circuitBreaker(SONG_SERVICE_NAME);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService songServiceCallExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+
+        // Calls run off the request thread, so the current observation is carried over for trace propagation.
+        ContextSnapshotFactory contextSnapshotFactory = ContextSnapshotFactory.builder().build();
+        if (virtualThreadsEnabled) {
+            return ContextExecutorService.wrap(
+                    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("song-service-call-", 1).factory()),
+                    contextSnapshotFactory);
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "song-service-call-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return ContextExecutorService.wrap(Executors.newCachedThreadPool(threadFactory), contextSnapshotFactory);
+    }
+}
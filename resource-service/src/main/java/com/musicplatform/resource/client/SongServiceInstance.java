@@ -0,0 +1,114 @@
+package com.musicplatform.resource.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SongServiceInstance {
+
+    private static final double LATENCY_DECAY = 0.2;
+    private static final String REQUESTS_METER = "song.service.client.requests";
+
+    private final ServiceInstance serviceInstance;
+    private final String baseUrl;
+    private final String address;
+    private final String instanceId;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicLong latencyEwmaBits = new AtomicLong(Double.doubleToLongBits(0.0));
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter ejections;
+    private final Gauge outstandingGauge;
+    private volatile long ejectedUntilNanos = System.nanoTime();
+
+    // Meters are keyed by instance ID like the instance table, so a replacement that reuses the address of a
+    // departed instance never shares meters with it.
+    SongServiceInstance(ServiceInstance serviceInstance, MeterRegistry meterRegistry) {
+        this.serviceInstance = serviceInstance;
+        this.baseUrl = serviceInstance.getUri().toString();
+        this.address = serviceInstance.getHost() + ":" + serviceInstance.getPort();
+        this.instanceId = serviceInstance.getInstanceId() != null ? serviceInstance.getInstanceId() : address;
+        this.successTimer = requestTimer(meterRegistry, "success");
+        this.failureTimer = requestTimer(meterRegistry, "failure");
+        this.ejections = Counter.builder("song.service.client.ejections")
+                .tag("instance", instanceId)
+                .tag("address", address)
+                .register(meterRegistry);
+        this.outstandingGauge = Gauge.builder("song.service.client.outstanding", outstanding, AtomicInteger::get)
+                .tag("instance", instanceId)
+                .tag("address", address)
+                .register(meterRegistry);
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public String address() {
+        return address;
+    }
+
+    String instanceId() {
+        return instanceId;
+    }
+
+    int outstanding() {
+        return outstanding.get();
+    }
+
+    double latencyEwmaNanos() {
+        return Double.longBitsToDouble(latencyEwmaBits.get());
+    }
+
+    boolean isAvailable(long nowNanos) {
+        return nowNanos - ejectedUntilNanos >= 0;
+    }
+
+    boolean tryAcquire(int maxInFlight) {
+        int current;
+        do {
+            current = outstanding.get();
+            if (current >= maxInFlight) {
+                return false;
+            }
+        } while (!outstanding.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    void onRequestEnd(long latencyNanos, boolean success) {
+        outstanding.decrementAndGet();
+        (success ? successTimer : failureTimer).record(latencyNanos, TimeUnit.NANOSECONDS);
+        latencyEwmaBits.updateAndGet(bits -> {
+            double current = Double.longBitsToDouble(bits);
+            double updated = current == 0.0 ? latencyNanos : current + LATENCY_DECAY * (latencyNanos - current);
+            return Double.doubleToLongBits(updated);
+        });
+    }
+
+    void eject(long durationNanos) {
+        ejectedUntilNanos = System.nanoTime() + durationNanos;
+        ejections.increment();
+    }
+
+    void unregister(MeterRegistry meterRegistry) {
+        meterRegistry.remove(successTimer);
+        meterRegistry.remove(failureTimer);
+        meterRegistry.remove(ejections);
+        meterRegistry.remove(outstandingGauge);
+    }
+
+    private Timer requestTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder(REQUESTS_METER)
+                .tag("instance", instanceId)
+                .tag("address", address)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
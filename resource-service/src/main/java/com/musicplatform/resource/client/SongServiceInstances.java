@@ -0,0 +1,165 @@
+package com.musicplatform.resource.client;
+
+import com.musicplatform.resource.exception.SongServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class SongServiceInstances {
+
+    private static final Logger logger = LoggerFactory.getLogger(SongServiceInstances.class);
+    private static final String SONG_SERVICE_NAME = "song-service";
+
+    private final DiscoveryClient discoveryClient;
+    private final MeterRegistry meterRegistry;
+    private final LoadBalancingStrategy strategy;
+    private final long ejectionNanos;
+    private final int maxInFlightPerInstance;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile List<SongServiceInstance> instances = List.of();
+
+    @Autowired
+    public SongServiceInstances(DiscoveryClient discoveryClient,
+                                MeterRegistry meterRegistry,
+                                @Value("${resource.song-service.load-balancing.strategy}") String strategy,
+                                @Value("${resource.song-service.load-balancing.ejection-duration}") Duration ejectionDuration,
+                                @Value("${resource.song-service.http.max-in-flight-per-instance}") int maxInFlightPerInstance) {
+        this.discoveryClient = discoveryClient;
+        this.meterRegistry = meterRegistry;
+        this.strategy = LoadBalancingStrategy.from(strategy);
+        this.ejectionNanos = ejectionDuration.toNanos();
+        this.maxInFlightPerInstance = maxInFlightPerInstance;
+    }
+
+    @Scheduled(fixedDelayString = "${resource.song-service.load-balancing.refresh-interval}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            Map<String, SongServiceInstance> known = new HashMap<>();
+            instances.forEach(instance -> known.put(instance.instanceId(), instance));
+
+            List<ServiceInstance> discovered = discoveryClient.getInstances(SONG_SERVICE_NAME);
+            Map<String, SongServiceInstance> departed = new HashMap<>(known);
+            discovered.forEach(serviceInstance -> departed.remove(instanceId(serviceInstance)));
+            departed.values().forEach(instance -> instance.unregister(meterRegistry));
+
+            List<SongServiceInstance> refreshed = new ArrayList<>();
+            for (ServiceInstance serviceInstance : discovered) {
+                SongServiceInstance instance = known.get(instanceId(serviceInstance));
+                refreshed.add(instance != null ? instance : new SongServiceInstance(serviceInstance, meterRegistry));
+            }
+
+            if (refreshed.size() != instances.size() || !departed.isEmpty()) {
+                logger.info("Refreshed '{}' instances: {}", SONG_SERVICE_NAME,
+                        refreshed.stream().map(SongServiceInstance::address).toList());
+            }
+            instances = List.copyOf(refreshed);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public SongServiceInstance acquire() {
+        List<SongServiceInstance> candidates = availableInstances();
+
+        SongServiceInstance preferred = choose(candidates);
+        if (preferred.tryAcquire(maxInFlightPerInstance)) {
+            return preferred;
+        }
+
+        return candidates.stream()
+                .filter(instance -> instance != preferred && instance.tryAcquire(maxInFlightPerInstance))
+                .findFirst()
+                .orElseThrow(() -> new SongServiceUnavailableException(String.format(
+                        "All '%s' instances have %d requests in flight", SONG_SERVICE_NAME, maxInFlightPerInstance)));
+    }
+
+    private SongServiceInstance choose(List<SongServiceInstance> candidates) {
+        return switch (strategy) {
+            case ROUND_ROBIN -> candidates.get(Math.floorMod(nextIndex.getAndIncrement(), candidates.size()));
+            case LEAST_OUTSTANDING -> leastOutstanding(candidates);
+            case LATENCY_WEIGHTED -> latencyWeighted(candidates);
+        };
+    }
+
+    public void onConnectionFailure(SongServiceInstance instance) {
+        instance.eject(ejectionNanos);
+        logger.warn("Ejected '{}' instance {} for {} ms after a connection failure",
+                SONG_SERVICE_NAME, instance.address(), Duration.ofNanos(ejectionNanos).toMillis());
+    }
+
+    private List<SongServiceInstance> availableInstances() {
+        List<SongServiceInstance> current = instances;
+        if (current.isEmpty()) {
+            refresh();
+            current = instances;
+        }
+        if (current.isEmpty()) {
+            throw new SongServiceUnavailableException("No instances of '" + SONG_SERVICE_NAME + "' available");
+        }
+
+        long now = System.nanoTime();
+        List<SongServiceInstance> available = current.stream()
+                .filter(instance -> instance.isAvailable(now))
+                .toList();
+
+        return available.isEmpty() ? current : available;
+    }
+
+    private SongServiceInstance leastOutstanding(List<SongServiceInstance> candidates) {
+        int offset = Math.floorMod(nextIndex.getAndIncrement(), candidates.size());
+        SongServiceInstance best = null;
+
+        for (int i = 0; i < candidates.size(); i++) {
+            SongServiceInstance candidate = candidates.get((offset + i) % candidates.size());
+            if (best == null || candidate.outstanding() < best.outstanding()) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    private SongServiceInstance latencyWeighted(List<SongServiceInstance> candidates) {
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        SongServiceInstance a = candidates.get(first);
+        SongServiceInstance b = candidates.get(second);
+        return cost(a) <= cost(b) ? a : b;
+    }
+
+    private double cost(SongServiceInstance instance) {
+        return (instance.latencyEwmaNanos() + 1) * (instance.outstanding() + 1);
+    }
+
+    private static String instanceId(ServiceInstance serviceInstance) {
+        return serviceInstance.getInstanceId() != null
+                ? serviceInstance.getInstanceId()
+                : serviceInstance.getHost() + ":" + serviceInstance.getPort();
+    }
+}
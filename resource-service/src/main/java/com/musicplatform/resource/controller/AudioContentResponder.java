@@ -0,0 +1,155 @@
+package com.musicplatform.resource.controller;
+
+import com.musicplatform.resource.service.AudioContent;
+import com.musicplatform.resource.service.ResourceService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class AudioContentResponder {
+
+    private static final MediaType AUDIO_MPEG_MEDIA_TYPE = MediaType.parseMediaType("audio/mpeg");
+    private static final String BYTES_RANGE_UNIT = "bytes";
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    private final ResourceService resourceService;
+
+    @Autowired
+    public AudioContentResponder(ResourceService resourceService) {
+        this.resourceService = resourceService;
+    }
+
+    public ResponseEntity<StreamingResponseBody> respond(AudioContent content, ServletWebRequest webRequest) {
+        return respond(content, webRequest, null);
+    }
+
+    // onComplete runs once the response is done with the content's file. Such content is always streamed:
+    // sendfile opens the file after the handler has returned and gives no signal when it has finished.
+    public ResponseEntity<StreamingResponseBody> respond(AudioContent content, ServletWebRequest webRequest,
+                                                         Runnable onComplete) {
+        boolean handedOff = false;
+        try {
+            ResponseEntity<StreamingResponseBody> response = prepare(content, webRequest, onComplete);
+            handedOff = response != null && response.getBody() != null;
+            return response;
+        } finally {
+            if (!handedOff && onComplete != null) {
+                onComplete.run();
+            }
+        }
+    }
+
+    private ResponseEntity<StreamingResponseBody> prepare(AudioContent content, ServletWebRequest webRequest,
+                                                          Runnable onComplete) {
+        String eTag = content.checksum() == null ? null : "\"" + content.checksum() + "\"";
+        long lastModified = content.lastModified().toEpochMilli();
+
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+
+        long size = content.size();
+        long start = 0;
+        long length = size;
+        HttpStatus status = HttpStatus.OK;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(AUDIO_MPEG_MEDIA_TYPE);
+        headers.set(HttpHeaders.ACCEPT_RANGES, BYTES_RANGE_UNIT);
+
+        Optional<HttpRange> requestedRange = singleRange(webRequest.getHeader(HttpHeaders.RANGE));
+        if (requestedRange.isPresent() && ifRangeMatches(webRequest.getHeader(HttpHeaders.IF_RANGE), eTag, lastModified)) {
+            try {
+                start = requestedRange.get().getRangeStart(size);
+                length = requestedRange.get().getRangeEnd(size) - start + 1;
+            } catch (IllegalArgumentException e) {
+                headers.set(HttpHeaders.CONTENT_RANGE, BYTES_RANGE_UNIT + " */" + size);
+                return ResponseEntity
+                        .status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .headers(headers)
+                        .build();
+            }
+
+            status = HttpStatus.PARTIAL_CONTENT;
+            headers.set(HttpHeaders.CONTENT_RANGE,
+                    String.format("%s %d-%d/%d", BYTES_RANGE_UNIT, start, start + length - 1, size));
+        }
+        headers.setContentLength(length);
+
+        Optional<Path> localFile = content.file();
+        HttpServletRequest request = webRequest.getRequest();
+        if (onComplete == null && localFile.isPresent()
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, localFile.get().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, start + length);
+
+            return ResponseEntity
+                    .status(status)
+                    .headers(headers)
+                    .build();
+        }
+
+        long rangeStart = start;
+        long rangeLength = length;
+        return ResponseEntity
+                .status(status)
+                .headers(headers)
+                .body(outputStream -> {
+                    try {
+                        resourceService.transferTo(content, rangeStart, rangeLength, outputStream);
+                    } finally {
+                        if (onComplete != null) {
+                            onComplete.run();
+                        }
+                    }
+                });
+    }
+
+    private Optional<HttpRange> singleRange(String rangeHeader) {
+        if (rangeHeader == null) {
+            return Optional.empty();
+        }
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? Optional.of(ranges.get(0)) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private boolean ifRangeMatches(String ifRange, String eTag, long lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(eTag);
+        }
+
+        try {
+            long ifRangeSeconds = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+            return ifRangeSeconds == lastModified / 1000;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
@@ -1,9 +1,21 @@
 package com.musicplatform.resource.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicplatform.resource.dto.BulkIngestItemResult;
 import com.musicplatform.resource.dto.CreateResourceResponse;
 import com.musicplatform.resource.dto.DeleteResourceResponse;
+import com.musicplatform.resource.dto.UploadSessionResponse;
+import com.musicplatform.resource.ingest.ArchiveIngestEntries;
+import com.musicplatform.resource.ingest.BulkIngestService;
+import com.musicplatform.resource.ingest.IngestEntries;
+import com.musicplatform.resource.ingest.MultipartIngestEntries;
+import com.musicplatform.resource.service.AudioContent;
 import com.musicplatform.resource.service.ResourceService;
+import com.musicplatform.resource.transcoding.AudioVariant;
+import com.musicplatform.resource.transcoding.TranscodingService;
+import com.musicplatform.resource.upload.UploadSessionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -11,40 +23,123 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequestMapping("/resources")
 public class ResourceController {
 
     private static final String AUDIO_MPEG_MEDIA_TYPE = "audio/mpeg";
+    private static final String ZIP_MEDIA_TYPE = "application/zip";
+    private static final String TAR_MEDIA_TYPE = "application/x-tar";
+    private static final byte LINE_SEPARATOR = '\n';
 
     private final ResourceService resourceService;
+    private final BulkIngestService bulkIngestService;
+    private final UploadSessionService uploadSessionService;
+    private final TranscodingService transcodingService;
+    private final AudioContentResponder audioContentResponder;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public ResourceController(ResourceService resourceService) {
+    public ResourceController(ResourceService resourceService,
+                              BulkIngestService bulkIngestService,
+                              UploadSessionService uploadSessionService,
+                              TranscodingService transcodingService,
+                              AudioContentResponder audioContentResponder,
+                              ObjectMapper objectMapper) {
         this.resourceService = resourceService;
+        this.bulkIngestService = bulkIngestService;
+        this.uploadSessionService = uploadSessionService;
+        this.transcodingService = transcodingService;
+        this.audioContentResponder = audioContentResponder;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping(consumes = AUDIO_MPEG_MEDIA_TYPE)
-    public ResponseEntity<CreateResourceResponse> create(@RequestBody byte[] audioData) {
+    public ResponseEntity<CreateResourceResponse> create(InputStream audioStream) {
+        CreateResourceResponse createResourceResponse = resourceService.create(audioStream);
+
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(resourceService.create(audioData));
+                .body(createResourceResponse);
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<byte[]> getById(@PathVariable("id") Long id) {
-        byte[] audioData = resourceService.getById(id);
+    @PostMapping(value = "/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createBatch(@RequestParam("files") List<MultipartFile> files) {
+        return bulkIngestResponse(new MultipartIngestEntries(files));
+    }
+
+    @PostMapping(value = "/batch", consumes = {ZIP_MEDIA_TYPE, TAR_MEDIA_TYPE}, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createBatchFromArchive(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream archiveStream) {
+        return bulkIngestResponse(MediaType.parseMediaType(ZIP_MEDIA_TYPE).isCompatibleWith(contentType)
+                ? ArchiveIngestEntries.zip(archiveStream)
+                : ArchiveIngestEntries.tar(archiveStream));
+    }
+
+    @PostMapping("/uploads")
+    public ResponseEntity<UploadSessionResponse> openUploadSession() {
+        UploadSessionResponse uploadSession = uploadSessionService.open();
+        return ResponseEntity
+                .created(URI.create("/resources/uploads/" + uploadSession.id()))
+                .body(uploadSession);
+    }
+
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<UploadSessionResponse> getUploadSession(@PathVariable("uploadId") String uploadId) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(uploadSessionService.status(uploadId));
+    }
+
+    @PutMapping(value = "/uploads/{uploadId}", consumes = {MediaType.APPLICATION_OCTET_STREAM_VALUE, AUDIO_MPEG_MEDIA_TYPE})
+    public ResponseEntity<UploadSessionResponse> writeUploadChunk(@PathVariable("uploadId") String uploadId,
+                                                                  @RequestParam("offset") long offset,
+                                                                  InputStream chunk) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(uploadSessionService.write(uploadId, offset, chunk));
+    }
 
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<CreateResourceResponse> completeUploadSession(@PathVariable("uploadId") String uploadId) {
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .contentType(MediaType.parseMediaType(AUDIO_MPEG_MEDIA_TYPE))
-                .contentLength(audioData.length)
-                .body(audioData);
+                .body(uploadSessionService.complete(uploadId));
+    }
+
+    @DeleteMapping("/uploads/{uploadId}")
+    public ResponseEntity<Void> abortUploadSession(@PathVariable("uploadId") String uploadId) {
+        uploadSessionService.abort(uploadId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<StreamingResponseBody> getById(@PathVariable("id") Long id,
+                                                         @RequestParam(value = "bitrate", required = false) Integer bitrate,
+                                                         ServletWebRequest webRequest) {
+        AudioContent content = resourceService.getById(id);
+        if (bitrate != null) {
+            AudioVariant variant = transcodingService.getVariant(content, bitrate);
+            return audioContentResponder.respond(variant.content(), webRequest, variant.release());
+        }
+        return audioContentResponder.respond(content, webRequest);
     }
 
     @DeleteMapping
@@ -54,4 +149,21 @@ public class ResourceController {
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(resourceService.deleteAllByIds(csvIds));
     }
+
+    private ResponseEntity<StreamingResponseBody> bulkIngestResponse(IngestEntries entries) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> bulkIngestService.ingest(entries, result -> writeLine(outputStream, result)));
+    }
+
+    private void writeLine(OutputStream outputStream, BulkIngestItemResult result) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(result));
+            outputStream.write(LINE_SEPARATOR);
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package com.musicplatform.resource.diagnostics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "resource.virtual-threads.pinning-diagnostics.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String VIRTUAL_THREAD_PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final int maxStackDepth;
+    private final RecordingStream recordingStream;
+
+    @Autowired
+    public VirtualThreadPinningMonitor(
+            @Value("${resource.virtual-threads.pinning-diagnostics.threshold}") Duration threshold,
+            @Value("${resource.virtual-threads.pinning-diagnostics.max-stack-depth}") int maxStackDepth) {
+
+        this.maxStackDepth = maxStackDepth;
+        this.recordingStream = new RecordingStream();
+        recordingStream.enable(VIRTUAL_THREAD_PINNED_EVENT)
+                .withThreshold(threshold)
+                .withStackTrace();
+        recordingStream.onEvent(VIRTUAL_THREAD_PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+
+        logger.info("Reporting virtual threads pinned to their carrier for longer than {} ms", threshold.toMillis());
+    }
+
+    @Override
+    public void close() {
+        recordingStream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        logger.warn("Virtual thread {} was pinned to its carrier for {} ms:\n{}",
+                thread != null ? thread.getJavaName() : "unknown",
+                event.getDuration().toMillis(),
+                formatStackTrace(event.getStackTrace()));
+    }
+
+    private String formatStackTrace(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\tstack trace unavailable";
+        }
+
+        return stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .limit(maxStackDepth)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,27 @@
+package com.musicplatform.resource.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkIngestItemResult(
+        int index,
+        String name,
+        Status status,
+        Long id,
+        Long likelyDuplicateOf,
+        String error
+) {
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    public static BulkIngestItemResult created(int index, String name, Long id, Long likelyDuplicateOf) {
+        return new BulkIngestItemResult(index, name, Status.CREATED, id, likelyDuplicateOf, null);
+    }
+
+    public static BulkIngestItemResult failed(int index, String name, String error) {
+        return new BulkIngestItemResult(index, name, Status.FAILED, null, null, error);
+    }
+}
@@ -1,3 +1,11 @@
 package com.musicplatform.resource.dto;
 
-public record CreateResourceResponse(Long id) {}
\ No newline at end of file
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CreateResourceResponse(Long id, Long likelyDuplicateOf) {
+
+    public CreateResourceResponse(Long id) {
+        this(id, null);
+    }
+}
@@ -0,0 +1,5 @@
+package com.musicplatform.resource.dto;
+
+import java.time.Instant;
+
+public record UploadSessionResponse(String id, long offset, Instant expiresAt) {}
@@ -0,0 +1,122 @@
+package com.musicplatform.resource.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+@Entity
+@Table(name = "audio_blobs")
+public class AudioBlob {
+
+    @Id
+    @Column(name = "checksum", length = 64)
+    private String checksum;
+
+    @Column(name = "storage_key", nullable = false, length = 128)
+    private String storageKey;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "has_metadata", nullable = false)
+    private boolean hasMetadata;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "artist")
+    private String artist;
+
+    @Column(name = "album")
+    private String album;
+
+    @Column(name = "duration")
+    private String duration;
+
+    @Column(name = "year")
+    private String year;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    public AudioBlob() {
+    }
+
+    public AudioBlob(String checksum, String storageKey, long size, Map<String, String> songMetadata) {
+        this.checksum = checksum;
+        this.storageKey = storageKey;
+        this.size = size;
+        this.refCount = 1;
+        this.hasMetadata = songMetadata != null;
+        if (songMetadata != null) {
+            this.name = songMetadata.get("name");
+            this.artist = songMetadata.get("artist");
+            this.album = songMetadata.get("album");
+            this.duration = songMetadata.get("duration");
+            this.year = songMetadata.get("year");
+        }
+        this.createdAt = Instant.now();
+    }
+
+    public Map<String, String> songMetadata() {
+        Map<String, String> songMetadata = new HashMap<>();
+        songMetadata.put("name", name);
+        songMetadata.put("artist", artist);
+        songMetadata.put("album", album);
+        songMetadata.put("duration", duration);
+        songMetadata.put("year", year);
+        return songMetadata;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public String getStorageKey() {
+        return storageKey;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public int getRefCount() {
+        return refCount;
+    }
+
+    public boolean hasMetadata() {
+        return hasMetadata;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getArtist() {
+        return artist;
+    }
+
+    public String getAlbum() {
+        return album;
+    }
+
+    public String getDuration() {
+        return duration;
+    }
+
+    public String getYear() {
+        return year;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
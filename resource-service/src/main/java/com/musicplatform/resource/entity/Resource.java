@@ -5,35 +5,62 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.Lob;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import org.hibernate.annotations.JdbcTypeCode;
+
+import java.time.Instant;
 
 @Entity
 @Table(name = "resources")
 public class Resource {
 
+    // must match INCREMENT BY of resources_id_seq
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resources_id_seq")
+    @SequenceGenerator(name = "resources_id_seq", sequenceName = "resources_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
-    @Lob
-    @JdbcTypeCode(java.sql.Types.BINARY)
-    @Column(name = "audio_data", nullable = false, columnDefinition = "BYTEA")
-    private byte[] audioData;
+    @Column(name = "storage_key", length = 128)
+    private String storageKey;
+
+    @Column(name = "size_bytes")
+    private Long size;
+
+    @Column(name = "checksum", length = 64)
+    private String checksum;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
 
     public Resource() {
     }
 
-    public Resource(byte[] audioData) {
-        this.audioData = audioData;
+    public Resource(String storageKey, long size, String checksum) {
+        this.storageKey = storageKey;
+        this.size = size;
+        this.checksum = checksum;
+        this.createdAt = Instant.now();
     }
 
     public Long getId() {
         return id;
     }
 
-    public byte[] getAudioData() {
-        return audioData;
+    public String getStorageKey() {
+        return storageKey;
+    }
+
+    public Long getSize() {
+        return size;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
     }
 }
@@ -0,0 +1,57 @@
+package com.musicplatform.resource.entity;
+
+import com.musicplatform.resource.fingerprint.AudioFingerprint;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "audio_fingerprints")
+public class ResourceFingerprint {
+
+    @Id
+    @Column(name = "resource_id")
+    private Long resourceId;
+
+    @Column(name = "checksum", nullable = false, length = 64)
+    private String checksum;
+
+    @Column(name = "sketch", nullable = false)
+    private int[] sketch;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    public ResourceFingerprint() {
+    }
+
+    public ResourceFingerprint(Long resourceId, String checksum, AudioFingerprint fingerprint) {
+        this.resourceId = resourceId;
+        this.checksum = checksum;
+        this.sketch = fingerprint.sketch();
+        this.createdAt = Instant.now();
+    }
+
+    public AudioFingerprint fingerprint() {
+        return new AudioFingerprint(sketch);
+    }
+
+    public Long getResourceId() {
+        return resourceId;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public int[] getSketch() {
+        return sketch;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,139 @@
+package com.musicplatform.resource.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Entity
+@Table(name = "song_metadata_outbox")
+public class SongMetadataOutboxEntry {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    public enum Status {
+        PENDING,
+        REJECTED
+    }
+
+    @Id
+    @Column(name = "resource_id")
+    private Long resourceId;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "artist")
+    private String artist;
+
+    @Column(name = "album")
+    private String album;
+
+    @Column(name = "duration")
+    private String duration;
+
+    @Column(name = "year")
+    private String year;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    public SongMetadataOutboxEntry() {
+    }
+
+    public SongMetadataOutboxEntry(Long resourceId, Map<String, String> songMetadata) {
+        this.resourceId = resourceId;
+        this.name = songMetadata.get("name");
+        this.artist = songMetadata.get("artist");
+        this.album = songMetadata.get("album");
+        this.duration = songMetadata.get("duration");
+        this.year = songMetadata.get("year");
+        this.status = Status.PENDING;
+        this.createdAt = Instant.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    public void claim(Instant leaseExpiresAt) {
+        this.attempts++;
+        this.nextAttemptAt = leaseExpiresAt;
+    }
+
+    public void retryAt(Instant nextAttemptAt, String error) {
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    public void reject(String reason) {
+        this.status = Status.REJECTED;
+        this.lastError = truncate(reason);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    public Long getResourceId() {
+        return resourceId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getArtist() {
+        return artist;
+    }
+
+    public String getAlbum() {
+        return album;
+    }
+
+    public String getDuration() {
+        return duration;
+    }
+
+    public String getYear() {
+        return year;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -1,7 +1,11 @@
 package com.musicplatform.resource.exception;
 
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +25,13 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final ObjectProvider<Tracer> tracerProvider;
+
+    @Autowired
+    public GlobalExceptionHandler(ObjectProvider<Tracer> tracerProvider) {
+        this.tracerProvider = tracerProvider;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex) {
         Map<String, String> details = ex.getBindingResult()
@@ -33,7 +44,7 @@ public class GlobalExceptionHandler {
 
         logger.warn("Validation failed: {}", ex.getMessage());
 
-        ErrorResponse response = new ErrorResponse(
+        ErrorResponse response = errorResponse(
                 "Validation error",
                 String.valueOf(HttpStatus.BAD_REQUEST.value()),
                 details);
@@ -46,7 +57,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleBadRequest(IllegalArgumentException ex) {
         logger.warn("Bad request: {}", ex.getMessage());
-        ErrorResponse response = new ErrorResponse(
+        ErrorResponse response = errorResponse(
                 ex.getMessage(),
                 String.valueOf(HttpStatus.BAD_REQUEST.value()));
         return ResponseEntity
@@ -58,7 +69,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFound(ResourceNotFoundException ex) {
         logger.warn("Not found: {}", ex.getMessage());
-        ErrorResponse response = new ErrorResponse(
+        ErrorResponse response = errorResponse(
                 ex.getMessage(),
                 String.valueOf(HttpStatus.NOT_FOUND.value()));
         return ResponseEntity
@@ -67,10 +78,47 @@ public class GlobalExceptionHandler {
                 .body(response);
     }
 
+    @ExceptionHandler(UploadOffsetMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleUploadOffsetMismatch(UploadOffsetMismatchException ex) {
+        logger.warn("Upload offset mismatch: {}", ex.getMessage());
+        ErrorResponse response = errorResponse(
+                ex.getMessage(),
+                String.valueOf(HttpStatus.CONFLICT.value()),
+                Map.of("offset", String.valueOf(ex.getCommittedOffset())));
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
+    }
+
+    @ExceptionHandler(SongServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleSongServiceUnavailable(SongServiceUnavailableException ex) {
+        logger.warn("Song service unavailable: {}", ex.getMessage());
+        ErrorResponse response = errorResponse(
+                ex.getMessage(),
+                String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()));
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
+    }
+
+    @ExceptionHandler(TranscodingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleTranscodingUnavailable(TranscodingUnavailableException ex) {
+        logger.warn("Transcoding unavailable: {}", ex.getMessage());
+        ErrorResponse response = errorResponse(
+                ex.getMessage(),
+                String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()));
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
+    }
+
     @ExceptionHandler(DataProcessingException.class)
     public ResponseEntity<ErrorResponse> handleMetadataExtraction(DataProcessingException ex) {
         logger.warn("Data processing error: {}", ex.getMessage());
-        ErrorResponse response = new ErrorResponse(
+        ErrorResponse response = errorResponse(
                 ex.getMessage(),
                 String.valueOf(HttpStatus.INTERNAL_SERVER_ERROR.value()));
         return ResponseEntity
@@ -81,7 +129,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(InvalidResourceException.class)
     public ResponseEntity<ErrorResponse> handleInvalidResourceException(InvalidResourceException invalidResourceException) {
         logger.warn("Invalid resource: {}", invalidResourceException.getMessage());
-        ErrorResponse response = new ErrorResponse(
+        ErrorResponse response = errorResponse(
                 invalidResourceException.getMessage(),
                 String.valueOf(HttpStatus.BAD_REQUEST.value()));
         return ResponseEntity
@@ -93,7 +141,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(HttpMessageNotReadableException httpMessageNotReadableException) {
         logger.warn("Not readable: {}", httpMessageNotReadableException.getMessage());
-        ErrorResponse response = new ErrorResponse(
+        ErrorResponse response = errorResponse(
                 "Malformed JSON request",
                 String.valueOf(HttpStatus.BAD_REQUEST.value()));
         return ResponseEntity
@@ -105,7 +153,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException methodArgumentTypeMismatchException) {
         logger.warn("Type mismatch: {}", methodArgumentTypeMismatchException.getMessage());
-        ErrorResponse response = new ErrorResponse(
+        ErrorResponse response = errorResponse(
                 String.format("Invalid value '%s' for ID. Must be a positive integer", methodArgumentTypeMismatchException.getValue()),
                 String.valueOf(HttpStatus.BAD_REQUEST.value()));
         return ResponseEntity
@@ -123,7 +171,7 @@ public class GlobalExceptionHandler {
             errorMessage = "Invalid file format: application/json. Only MP3 files are allowed";
         }
 
-        ErrorResponse response = new ErrorResponse(
+        ErrorResponse response = errorResponse(
                 errorMessage,
                 String.valueOf(HttpStatus.BAD_REQUEST.value()));
         return ResponseEntity
@@ -135,11 +183,25 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneric(Exception ex) {
         logger.warn(ex.getMessage(), ex);
-        ErrorResponse response = new ErrorResponse(
+        ErrorResponse response = errorResponse(
                 "An error occurred on the server.",
                 String.valueOf(HttpStatus.INTERNAL_SERVER_ERROR.value()));
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(response);
     }
+
+    private ErrorResponse errorResponse(String errorMessage, String errorCode) {
+        return errorResponse(errorMessage, errorCode, null);
+    }
+
+    private ErrorResponse errorResponse(String errorMessage, String errorCode, Map<String, String> details) {
+        return new ErrorResponse(errorMessage, errorCode, details, currentTraceId());
+    }
+
+    private String currentTraceId() {
+        Tracer tracer = tracerProvider.getIfAvailable();
+        Span span = tracer != null ? tracer.currentSpan() : null;
+        return span != null ? span.context().traceId() : null;
+    }
 }
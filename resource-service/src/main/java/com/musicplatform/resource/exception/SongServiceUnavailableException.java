@@ -0,0 +1,12 @@
+package com.musicplatform.resource.exception;
+
+public class SongServiceUnavailableException extends DataProcessingException {
+
+    public SongServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public SongServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
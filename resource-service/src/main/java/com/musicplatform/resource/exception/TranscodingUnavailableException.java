@@ -0,0 +1,8 @@
+package com.musicplatform.resource.exception;
+
+public class TranscodingUnavailableException extends DataProcessingException {
+
+    public TranscodingUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.musicplatform.resource.exception;
+
+public class UploadOffsetMismatchException extends RuntimeException {
+
+    private final long committedOffset;
+
+    public UploadOffsetMismatchException(String message, long committedOffset) {
+        super(message);
+        this.committedOffset = committedOffset;
+    }
+
+    public long getCommittedOffset() {
+        return committedOffset;
+    }
+}
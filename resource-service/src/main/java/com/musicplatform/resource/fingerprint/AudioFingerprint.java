@@ -0,0 +1,5 @@
+package com.musicplatform.resource.fingerprint;
+
+// Bottom-k MinHash sketch over the distinct chroma sub-fingerprints of a recording, sorted ascending.
+public record AudioFingerprint(int[] sketch) {
+}
@@ -0,0 +1,240 @@
+package com.musicplatform.resource.fingerprint;
+
+import com.musicplatform.resource.entity.ResourceFingerprint;
+import com.musicplatform.resource.repository.ResourceFingerprintRepository;
+import com.musicplatform.resource.repository.ResourceRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+public class AudioFingerprintService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AudioFingerprintService.class);
+    private static final String LOOKUP_TIMER = "resource.fingerprint.lookup";
+    private static final String POSTINGS_GAUGE = "resource.fingerprint.index.postings";
+    private static final int REBUILD_PAGE_SIZE = 10_000;
+
+    private final ChromaFingerprinter chromaFingerprinter;
+    private final FingerprintIndex fingerprintIndex;
+    private final ResourceFingerprintRepository fingerprintRepository;
+    private final ResourceRepository resourceRepository;
+    private final ExecutorService fingerprintExecutor;
+    private final Timer lookupTimer;
+    private final boolean enabled;
+    private final int minSharedHashes;
+    private final Duration waitTimeout;
+
+    @Autowired
+    public AudioFingerprintService(ChromaFingerprinter chromaFingerprinter,
+                                   FingerprintIndex fingerprintIndex,
+                                   ResourceFingerprintRepository fingerprintRepository,
+                                   ResourceRepository resourceRepository,
+                                   @Qualifier("fingerprintExecutor") ExecutorService fingerprintExecutor,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${resource.fingerprint.enabled}") boolean enabled,
+                                   @Value("${resource.fingerprint.min-shared-hashes}") int minSharedHashes,
+                                   @Value("${resource.fingerprint.wait-timeout}") Duration waitTimeout) {
+        this.chromaFingerprinter = chromaFingerprinter;
+        this.fingerprintIndex = fingerprintIndex;
+        this.fingerprintRepository = fingerprintRepository;
+        this.resourceRepository = resourceRepository;
+        this.fingerprintExecutor = fingerprintExecutor;
+        this.enabled = enabled;
+        this.minSharedHashes = minSharedHashes;
+        this.waitTimeout = waitTimeout;
+        this.lookupTimer = Timer.builder(LOOKUP_TIMER)
+                .description("Time to find the closest fingerprint in the similarity index")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder(POSTINGS_GAUGE, fingerprintIndex, FingerprintIndex::postings)
+                .description("Sketch hashes held by the fingerprint similarity index")
+                .register(meterRegistry);
+    }
+
+    // The upload is opened on the calling thread so the task can still read it after the spool file has been
+    // moved into blob storage or removed.
+    public CompletableFuture<Optional<AudioFingerprint>> fingerprintAsync(String checksum, Path audioFile) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        Optional<AudioFingerprint> storedFingerprint = findStored(checksum);
+        if (storedFingerprint.isPresent()) {
+            return CompletableFuture.completedFuture(storedFingerprint);
+        }
+
+        InputStream audio;
+        try {
+            audio = Files.newInputStream(audioFile);
+        } catch (IOException e) {
+            logger.warn("Failed to open {} for fingerprinting", audioFile, e);
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> fingerprint(audio), fingerprintExecutor);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Fingerprint queue is full, skipping upload with checksum {}", checksum);
+            closeQuietly(audio);
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+    }
+
+    public Optional<AudioFingerprint> fingerprint(String checksum, Path audioFile) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Optional<AudioFingerprint> storedFingerprint = findStored(checksum);
+        if (storedFingerprint.isPresent()) {
+            return storedFingerprint;
+        }
+
+        try {
+            return fingerprint(Files.newInputStream(audioFile));
+        } catch (IOException e) {
+            logger.warn("Failed to open {} for fingerprinting", audioFile, e);
+            return Optional.empty();
+        }
+    }
+
+    // Waits up to the configured timeout; a fingerprint that takes longer is still indexed once it completes.
+    public Optional<Long> register(Long resourceId, String checksum,
+                                   CompletableFuture<Optional<AudioFingerprint>> fingerprint) {
+        CompletableFuture<Map<Long, Long>> registration = fingerprint.thenApply(computed -> computed
+                .map(audioFingerprint -> registerAll(List.of(new ResourceFingerprint(resourceId, checksum, audioFingerprint))))
+                .orElse(Map.of()));
+
+        try {
+            return Optional.ofNullable(registration.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS).get(resourceId));
+        } catch (TimeoutException e) {
+            logger.debug("Fingerprint of resource with ID {} is still being computed", resourceId);
+        } catch (ExecutionException e) {
+            logger.warn("Failed to fingerprint resource with ID {}", resourceId, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Optional.empty();
+    }
+
+    // Returns the likely duplicate of each newly indexed resource that has one; entries are matched in order,
+    // so a batch can flag duplicates among itself.
+    public Map<Long, Long> registerAll(List<ResourceFingerprint> fingerprints) {
+        if (fingerprints.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            fingerprintRepository.insertAll(fingerprints);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to store {} audio fingerprints", fingerprints.size(), e);
+            return Map.of();
+        }
+
+        Map<Long, Long> likelyDuplicates = new HashMap<>();
+        for (ResourceFingerprint fingerprint : fingerprints) {
+            findLikelyDuplicate(fingerprint).ifPresent(
+                    duplicateOf -> likelyDuplicates.put(fingerprint.getResourceId(), duplicateOf));
+            fingerprintIndex.add(fingerprint.getResourceId(), fingerprint.fingerprint());
+        }
+        return likelyDuplicates;
+    }
+
+    public List<ResourceFingerprint> deleteAll(long[] resourceIds) {
+        return fingerprintRepository.deleteAllByResourceIdsReturning(resourceIds);
+    }
+
+    public void unindex(List<ResourceFingerprint> fingerprints) {
+        fingerprints.forEach(fingerprint ->
+                fingerprintIndex.remove(fingerprint.getResourceId(), fingerprint.fingerprint()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        if (enabled) {
+            fingerprintExecutor.execute(this::loadIndex);
+        }
+    }
+
+    private void loadIndex() {
+        long startNanos = System.nanoTime();
+        long loaded = 0;
+        long lastResourceId = 0;
+
+        try {
+            List<ResourceFingerprint> page;
+            do {
+                page = fingerprintRepository.findByResourceIdGreaterThanOrderByResourceIdAsc(
+                        lastResourceId, Limit.of(REBUILD_PAGE_SIZE));
+                for (ResourceFingerprint fingerprint : page) {
+                    fingerprintIndex.add(fingerprint.getResourceId(), fingerprint.fingerprint());
+                    lastResourceId = fingerprint.getResourceId();
+                }
+                loaded += page.size();
+            } while (page.size() == REBUILD_PAGE_SIZE);
+        } catch (DataAccessException e) {
+            logger.error("Failed to load audio fingerprints after {} entries, near-duplicate detection is incomplete",
+                    loaded, e);
+            return;
+        }
+
+        logger.info("Loaded {} audio fingerprints into the similarity index in {} ms",
+                loaded, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    // The index may briefly hold resources deleted while it was being rebuilt, so the winner is checked against the table.
+    private Optional<Long> findLikelyDuplicate(ResourceFingerprint fingerprint) {
+        return lookupTimer.record(() -> fingerprintIndex.findBestMatch(
+                        fingerprint.fingerprint(), fingerprint.getResourceId(), minSharedHashes))
+                .map(FingerprintIndex.Match::resourceId)
+                .filter(resourceRepository::existsById);
+    }
+
+    private Optional<AudioFingerprint> findStored(String checksum) {
+        return fingerprintRepository.findFirstByChecksum(checksum).map(ResourceFingerprint::fingerprint);
+    }
+
+    private Optional<AudioFingerprint> fingerprint(InputStream audio) {
+        try (audio) {
+            return chromaFingerprinter.fingerprint(audio);
+        } catch (IOException e) {
+            logger.warn("Failed to read audio for fingerprinting", e);
+            return Optional.empty();
+        }
+    }
+
+    private void closeQuietly(InputStream audio) {
+        try {
+            audio.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close audio opened for fingerprinting", e);
+        }
+    }
+}
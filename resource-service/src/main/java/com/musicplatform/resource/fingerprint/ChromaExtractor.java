@@ -0,0 +1,224 @@
+package com.musicplatform.resource.fingerprint;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+// Turns decoded PCM into chroma sub-fingerprints: downmixed to mono, resampled to 11025 Hz, analysed in
+// 4096-sample Hann windows with a 1365-sample hop. Each 24-bit sub-fingerprint records, per pitch class,
+// whether its energy rose against the frame two hops back and whether it exceeds the next pitch class;
+// both comparisons survive re-encoding at a different bitrate far better than the raw spectrum does.
+class ChromaExtractor {
+
+    private static final int SAMPLE_RATE = 11025;
+    private static final int FRAME_SIZE = 4096;
+    private static final int HOP_SIZE = FRAME_SIZE / 3;
+    private static final int PITCH_CLASSES = 12;
+    private static final double MIN_FREQUENCY = 28;
+    private static final double MAX_FREQUENCY = 3520;
+    private static final double REFERENCE_FREQUENCY = 27.5;
+    private static final double SILENCE_ENERGY = 1e-4;
+    private static final int SMOOTHING_FRAMES = 3;
+    private static final int TEMPORAL_DISTANCE = 2;
+
+    private static final double[] WINDOW = hannWindow();
+    private static final int[] BIN_PITCH_CLASSES = binPitchClasses();
+
+    private final int maxSubFingerprints;
+    private final float[] frame = new float[FRAME_SIZE];
+    private final double[] real = new double[FRAME_SIZE];
+    private final double[] imaginary = new double[FRAME_SIZE];
+    private final double[][] recentChroma = new double[SMOOTHING_FRAMES][PITCH_CLASSES];
+    private final double[][] recentSmoothed = new double[TEMPORAL_DISTANCE + 1][PITCH_CLASSES];
+    private int[] subFingerprints = new int[256];
+    private int subFingerprintCount;
+    private int frameFill;
+    private int voicedFrames;
+    private double resampleStep;
+    private double resamplePosition;
+    private double resampleSum;
+    private int resampleCount;
+
+    ChromaExtractor(int maxSubFingerprints) {
+        this.maxSubFingerprints = maxSubFingerprints;
+    }
+
+    static int subFingerprintsIn(Duration duration) {
+        return (int) (duration.toMillis() * SAMPLE_RATE / 1000 / HOP_SIZE);
+    }
+
+    boolean isFull() {
+        return subFingerprintCount >= maxSubFingerprints;
+    }
+
+    void append(short[] interleaved, int length, int channels, int sampleRate) {
+        if (resampleStep == 0) {
+            resampleStep = (double) sampleRate / SAMPLE_RATE;
+        }
+
+        for (int i = 0; i + channels <= length && !isFull(); i += channels) {
+            int mixed = 0;
+            for (int channel = 0; channel < channels; channel++) {
+                mixed += interleaved[i + channel];
+            }
+            resample(mixed / (channels * 32768.0));
+        }
+    }
+
+    int[] subFingerprints() {
+        return Arrays.copyOf(subFingerprints, subFingerprintCount);
+    }
+
+    private void resample(double sample) {
+        resampleSum += sample;
+        resampleCount++;
+        resamplePosition += 1;
+        if (resamplePosition >= resampleStep) {
+            resamplePosition -= resampleStep;
+            push((float) (resampleSum / resampleCount));
+            resampleSum = 0;
+            resampleCount = 0;
+        }
+    }
+
+    private void push(float sample) {
+        frame[frameFill++] = sample;
+        if (frameFill == FRAME_SIZE) {
+            analyse();
+            System.arraycopy(frame, HOP_SIZE, frame, 0, FRAME_SIZE - HOP_SIZE);
+            frameFill = FRAME_SIZE - HOP_SIZE;
+        }
+    }
+
+    private void analyse() {
+        for (int i = 0; i < FRAME_SIZE; i++) {
+            real[i] = frame[i] * WINDOW[i];
+            imaginary[i] = 0;
+        }
+        transform(real, imaginary);
+
+        double[] chroma = recentChroma[voicedFrames % SMOOTHING_FRAMES];
+        Arrays.fill(chroma, 0);
+        double total = 0;
+        for (int bin = 0; bin < BIN_PITCH_CLASSES.length; bin++) {
+            int pitchClass = BIN_PITCH_CLASSES[bin];
+            if (pitchClass >= 0) {
+                double energy = real[bin] * real[bin] + imaginary[bin] * imaginary[bin];
+                chroma[pitchClass] += energy;
+                total += energy;
+            }
+        }
+
+        // Silence carries no pitch information and would make every quiet intro look alike.
+        if (total < SILENCE_ENERGY) {
+            voicedFrames = 0;
+            return;
+        }
+        for (int pitchClass = 0; pitchClass < PITCH_CLASSES; pitchClass++) {
+            chroma[pitchClass] /= total;
+        }
+        voicedFrames++;
+
+        if (voicedFrames < SMOOTHING_FRAMES) {
+            return;
+        }
+        double[] smoothed = recentSmoothed[voicedFrames % recentSmoothed.length];
+        for (int pitchClass = 0; pitchClass < PITCH_CLASSES; pitchClass++) {
+            double sum = 0;
+            for (double[] recent : recentChroma) {
+                sum += recent[pitchClass];
+            }
+            smoothed[pitchClass] = sum / SMOOTHING_FRAMES;
+        }
+
+        if (voicedFrames >= SMOOTHING_FRAMES + TEMPORAL_DISTANCE) {
+            double[] earlier = recentSmoothed[(voicedFrames - TEMPORAL_DISTANCE) % recentSmoothed.length];
+            emit(subFingerprint(smoothed, earlier));
+        }
+    }
+
+    private static int subFingerprint(double[] current, double[] earlier) {
+        int bits = 0;
+        for (int pitchClass = 0; pitchClass < PITCH_CLASSES; pitchClass++) {
+            if (current[pitchClass] > earlier[pitchClass]) {
+                bits |= 1 << pitchClass;
+            }
+            if (current[pitchClass] > current[(pitchClass + 1) % PITCH_CLASSES]) {
+                bits |= 1 << (PITCH_CLASSES + pitchClass);
+            }
+        }
+        return bits;
+    }
+
+    private void emit(int subFingerprint) {
+        if (subFingerprintCount == subFingerprints.length) {
+            subFingerprints = Arrays.copyOf(subFingerprints, subFingerprints.length * 2);
+        }
+        subFingerprints[subFingerprintCount++] = subFingerprint;
+    }
+
+    // In-place iterative radix-2 FFT.
+    private static void transform(double[] real, double[] imaginary) {
+        int n = real.length;
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                double swap = real[i];
+                real[i] = real[j];
+                real[j] = swap;
+                swap = imaginary[i];
+                imaginary[i] = imaginary[j];
+                imaginary[j] = swap;
+            }
+        }
+
+        for (int length = 2; length <= n; length <<= 1) {
+            double angle = -2 * Math.PI / length;
+            double stepReal = Math.cos(angle);
+            double stepImaginary = Math.sin(angle);
+            for (int start = 0; start < n; start += length) {
+                double twiddleReal = 1;
+                double twiddleImaginary = 0;
+                for (int k = 0; k < length / 2; k++) {
+                    int even = start + k;
+                    int odd = even + length / 2;
+                    double oddReal = real[odd] * twiddleReal - imaginary[odd] * twiddleImaginary;
+                    double oddImaginary = real[odd] * twiddleImaginary + imaginary[odd] * twiddleReal;
+                    real[odd] = real[even] - oddReal;
+                    imaginary[odd] = imaginary[even] - oddImaginary;
+                    real[even] += oddReal;
+                    imaginary[even] += oddImaginary;
+
+                    double nextReal = twiddleReal * stepReal - twiddleImaginary * stepImaginary;
+                    twiddleImaginary = twiddleReal * stepImaginary + twiddleImaginary * stepReal;
+                    twiddleReal = nextReal;
+                }
+            }
+        }
+    }
+
+    private static double[] hannWindow() {
+        double[] window = new double[FRAME_SIZE];
+        for (int i = 0; i < FRAME_SIZE; i++) {
+            window[i] = 0.5 - 0.5 * Math.cos(2 * Math.PI * i / (FRAME_SIZE - 1));
+        }
+        return window;
+    }
+
+    private static int[] binPitchClasses() {
+        int[] pitchClasses = new int[FRAME_SIZE / 2];
+        for (int bin = 0; bin < pitchClasses.length; bin++) {
+            double frequency = (double) bin * SAMPLE_RATE / FRAME_SIZE;
+            if (frequency < MIN_FREQUENCY || frequency > MAX_FREQUENCY) {
+                pitchClasses[bin] = -1;
+            } else {
+                long semitone = Math.round(PITCH_CLASSES * Math.log(frequency / REFERENCE_FREQUENCY) / Math.log(2));
+                pitchClasses[bin] = (int) Math.floorMod(semitone, PITCH_CLASSES);
+            }
+        }
+        return pitchClasses;
+    }
+}
@@ -0,0 +1,89 @@
+package com.musicplatform.resource.fingerprint;
+
+import javazoom.jl.decoder.Bitstream;
+import javazoom.jl.decoder.BitstreamException;
+import javazoom.jl.decoder.Decoder;
+import javazoom.jl.decoder.Header;
+import javazoom.jl.decoder.JavaLayerException;
+import javazoom.jl.decoder.SampleBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+@Component
+public class ChromaFingerprinter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChromaFingerprinter.class);
+
+    private final int maxSubFingerprints;
+    private final int sketchSize;
+
+    @Autowired
+    public ChromaFingerprinter(@Value("${resource.fingerprint.max-duration}") Duration maxDuration,
+                               @Value("${resource.fingerprint.sketch-size}") int sketchSize) {
+        this.maxSubFingerprints = ChromaExtractor.subFingerprintsIn(maxDuration);
+        this.sketchSize = sketchSize;
+    }
+
+    public Optional<AudioFingerprint> fingerprint(InputStream audio) {
+        ChromaExtractor extractor = new ChromaExtractor(maxSubFingerprints);
+        Bitstream bitstream = new Bitstream(audio);
+        Decoder decoder = new Decoder();
+
+        try {
+            Header header;
+            while (!extractor.isFull() && !Thread.currentThread().isInterrupted()
+                    && (header = bitstream.readFrame()) != null) {
+                SampleBuffer samples = (SampleBuffer) decoder.decodeFrame(header, bitstream);
+                extractor.append(samples.getBuffer(), samples.getBufferLength(),
+                        samples.getChannelCount(), samples.getSampleFrequency());
+                bitstream.closeFrame();
+            }
+        } catch (JavaLayerException | RuntimeException e) {
+            // A damaged frame ends decoding; whatever was decoded before it still identifies the recording.
+            logger.debug("Stopped decoding audio for fingerprinting: {}", e.toString());
+        } finally {
+            closeQuietly(bitstream);
+        }
+
+        return sketch(extractor.subFingerprints());
+    }
+
+    Optional<AudioFingerprint> sketch(int[] subFingerprints) {
+        int[] hashes = Arrays.stream(subFingerprints)
+                .distinct()
+                .map(ChromaFingerprinter::mix)
+                .sorted()
+                .toArray();
+        if (hashes.length < sketchSize) {
+            return Optional.empty();
+        }
+        return Optional.of(new AudioFingerprint(Arrays.copyOf(hashes, sketchSize)));
+    }
+
+    // MurmurHash3 finalizer: spreads the structured sub-fingerprint bits so the bottom-k choice is a uniform sample.
+    private static int mix(int value) {
+        int hash = value;
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private void closeQuietly(Bitstream bitstream) {
+        try {
+            bitstream.close();
+        } catch (BitstreamException e) {
+            logger.debug("Failed to close MPEG bitstream", e);
+        }
+    }
+}
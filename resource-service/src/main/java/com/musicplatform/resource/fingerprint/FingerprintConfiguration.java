@@ -0,0 +1,34 @@
+package com.musicplatform.resource.fingerprint;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class FingerprintConfiguration {
+
+    // Bounded so a burst of uploads sheds fingerprinting instead of queueing open spool files without limit.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService fingerprintExecutor(@Value("${resource.fingerprint.parallelism}") int parallelism,
+                                               @Value("${resource.fingerprint.queue-capacity}") int queueCapacity) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "fingerprint-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+        return ContextExecutorService.wrap(executor, ContextSnapshotFactory.builder().build());
+    }
+}
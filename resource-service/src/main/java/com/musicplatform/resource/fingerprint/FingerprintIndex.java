@@ -0,0 +1,164 @@
+package com.musicplatform.resource.fingerprint;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Inverted index from sketch hashes to resources. Two recordings sharing m of k sketch hashes have an
+// estimated Jaccard similarity of m/k over their sub-fingerprints, so a lookup is k bucket scans plus a vote.
+// Postings live in primitive arrays per bucket to keep millions of tracks within a few hundred MB of heap.
+@Component
+public class FingerprintIndex {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final int INITIAL_BUCKET_CAPACITY = 4;
+
+    public record Match(long resourceId, int sharedHashes) {
+    }
+
+    private final Bucket[] buckets;
+    private final int bucketMask;
+    private final ReadWriteLock[] locks = new ReadWriteLock[LOCK_STRIPES];
+    private final AtomicLong postings = new AtomicLong();
+
+    @Autowired
+    public FingerprintIndex(@Value("${resource.fingerprint.index.buckets}") int bucketCount) {
+        int capacity = Math.max(LOCK_STRIPES, Integer.highestOneBit(bucketCount));
+        this.buckets = new Bucket[capacity];
+        this.bucketMask = capacity - 1;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    public void add(long resourceId, AudioFingerprint fingerprint) {
+        for (int hash : fingerprint.sketch()) {
+            int bucketIndex = hash & bucketMask;
+            ReadWriteLock lock = lockFor(bucketIndex);
+            lock.writeLock().lock();
+            try {
+                Bucket bucket = buckets[bucketIndex];
+                if (bucket == null) {
+                    bucket = new Bucket();
+                    buckets[bucketIndex] = bucket;
+                }
+                if (bucket.add(hash, resourceId)) {
+                    postings.incrementAndGet();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public void remove(long resourceId, AudioFingerprint fingerprint) {
+        for (int hash : fingerprint.sketch()) {
+            int bucketIndex = hash & bucketMask;
+            ReadWriteLock lock = lockFor(bucketIndex);
+            lock.writeLock().lock();
+            try {
+                Bucket bucket = buckets[bucketIndex];
+                if (bucket != null && bucket.remove(hash, resourceId)) {
+                    postings.decrementAndGet();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public Optional<Match> findBestMatch(AudioFingerprint fingerprint, long excludedResourceId, int minSharedHashes) {
+        Map<Long, Integer> votes = new HashMap<>();
+        for (int hash : fingerprint.sketch()) {
+            int bucketIndex = hash & bucketMask;
+            ReadWriteLock lock = lockFor(bucketIndex);
+            lock.readLock().lock();
+            try {
+                Bucket bucket = buckets[bucketIndex];
+                if (bucket != null) {
+                    bucket.collect(hash, votes);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        Match best = null;
+        for (Map.Entry<Long, Integer> vote : votes.entrySet()) {
+            long resourceId = vote.getKey();
+            int sharedHashes = vote.getValue();
+            if (resourceId != excludedResourceId && sharedHashes >= minSharedHashes
+                    && (best == null || sharedHashes > best.sharedHashes()
+                    || sharedHashes == best.sharedHashes() && resourceId < best.resourceId())) {
+                best = new Match(resourceId, sharedHashes);
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    public long postings() {
+        return postings.get();
+    }
+
+    private ReadWriteLock lockFor(int bucketIndex) {
+        return locks[bucketIndex & (LOCK_STRIPES - 1)];
+    }
+
+    private static final class Bucket {
+
+        private int[] hashes = new int[INITIAL_BUCKET_CAPACITY];
+        private long[] resourceIds = new long[INITIAL_BUCKET_CAPACITY];
+        private int size;
+
+        // Idempotent, so a registration racing the startup rebuild cannot count twice.
+        boolean add(int hash, long resourceId) {
+            if (indexOf(hash, resourceId) >= 0) {
+                return false;
+            }
+            if (size == hashes.length) {
+                hashes = Arrays.copyOf(hashes, size * 2);
+                resourceIds = Arrays.copyOf(resourceIds, size * 2);
+            }
+            hashes[size] = hash;
+            resourceIds[size] = resourceId;
+            size++;
+            return true;
+        }
+
+        boolean remove(int hash, long resourceId) {
+            int index = indexOf(hash, resourceId);
+            if (index < 0) {
+                return false;
+            }
+            size--;
+            hashes[index] = hashes[size];
+            resourceIds[index] = resourceIds[size];
+            return true;
+        }
+
+        void collect(int hash, Map<Long, Integer> votes) {
+            for (int i = 0; i < size; i++) {
+                if (hashes[i] == hash) {
+                    votes.merge(resourceIds[i], 1, Integer::sum);
+                }
+            }
+        }
+
+        private int indexOf(int hash, long resourceId) {
+            for (int i = 0; i < size; i++) {
+                if (hashes[i] == hash && resourceIds[i] == resourceId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.musicplatform.resource.ingest;
+
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.ArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.commons.io.input.CloseShieldInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public class ArchiveIngestEntries implements IngestEntries {
+
+    private final ArchiveInputStream<? extends ArchiveEntry> archive;
+
+    private ArchiveIngestEntries(ArchiveInputStream<? extends ArchiveEntry> archive) {
+        this.archive = archive;
+    }
+
+    public static ArchiveIngestEntries zip(InputStream source) {
+        return new ArchiveIngestEntries(new ZipArchiveInputStream(source));
+    }
+
+    public static ArchiveIngestEntries tar(InputStream source) {
+        return new ArchiveIngestEntries(new TarArchiveInputStream(source));
+    }
+
+    @Override
+    public IngestEntry next() throws IOException {
+        ArchiveEntry entry;
+        while ((entry = archive.getNextEntry()) != null) {
+            if (!entry.isDirectory() && archive.canReadEntryData(entry)) {
+                return new IngestEntry(entry.getName(), CloseShieldInputStream.wrap(archive));
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        archive.close();
+    }
+}
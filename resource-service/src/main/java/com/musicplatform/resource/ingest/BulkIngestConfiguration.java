@@ -0,0 +1,29 @@
+package com.musicplatform.resource.ingest;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class BulkIngestConfiguration {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService ingestExecutor(@Value("${resource.ingest.parallelism}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "ingest-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return ContextExecutorService.wrap(Executors.newFixedThreadPool(threads, threadFactory),
+                ContextSnapshotFactory.builder().build());
+    }
+}
@@ -0,0 +1,274 @@
+package com.musicplatform.resource.ingest;
+
+import com.musicplatform.resource.dto.BulkIngestItemResult;
+import com.musicplatform.resource.entity.AudioBlob;
+import com.musicplatform.resource.exception.DataProcessingException;
+import com.musicplatform.resource.exception.InvalidResourceException;
+import com.musicplatform.resource.fingerprint.AudioFingerprint;
+import com.musicplatform.resource.fingerprint.AudioFingerprintService;
+import com.musicplatform.resource.metadata.Mp3MetadataExtractor;
+import com.musicplatform.resource.metadata.SongMetadataValidator;
+import com.musicplatform.resource.metrics.IngestMetrics;
+import com.musicplatform.resource.metrics.IngestSource;
+import com.musicplatform.resource.metrics.IngestStage;
+import com.musicplatform.resource.repository.AudioBlobRepository;
+import com.musicplatform.resource.service.AudioSpooler;
+import com.musicplatform.resource.service.ResourceService;
+import com.musicplatform.resource.service.SpooledAudio;
+import com.musicplatform.resource.storage.BlobStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+@Service
+public class BulkIngestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkIngestService.class);
+
+    private final AudioSpooler audioSpooler;
+    private final Mp3MetadataExtractor mp3MetadataExtractor;
+    private final SongMetadataValidator songMetadataValidator;
+    private final BlobStore blobStore;
+    private final AudioBlobRepository audioBlobRepository;
+    private final AudioFingerprintService audioFingerprintService;
+    private final ResourceService resourceService;
+    private final IngestMetrics ingestMetrics;
+    private final ExecutorService ingestExecutor;
+    private final int queueCapacity;
+    private final int batchSize;
+
+    @Autowired
+    public BulkIngestService(AudioSpooler audioSpooler,
+                             Mp3MetadataExtractor mp3MetadataExtractor,
+                             SongMetadataValidator songMetadataValidator,
+                             BlobStore blobStore,
+                             AudioBlobRepository audioBlobRepository,
+                             AudioFingerprintService audioFingerprintService,
+                             ResourceService resourceService,
+                             IngestMetrics ingestMetrics,
+                             @Qualifier("ingestExecutor") ExecutorService ingestExecutor,
+                             @Value("${resource.ingest.queue-capacity}") int queueCapacity,
+                             @Value("${resource.ingest.batch-size}") int batchSize) {
+        this.audioSpooler = audioSpooler;
+        this.mp3MetadataExtractor = mp3MetadataExtractor;
+        this.songMetadataValidator = songMetadataValidator;
+        this.blobStore = blobStore;
+        this.audioBlobRepository = audioBlobRepository;
+        this.audioFingerprintService = audioFingerprintService;
+        this.resourceService = resourceService;
+        this.ingestMetrics = ingestMetrics;
+        this.ingestExecutor = ingestExecutor;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+    }
+
+    public void ingest(IngestEntries entries, Consumer<BulkIngestItemResult> results) throws IOException {
+        new Run(results).execute(entries);
+    }
+
+    private record Outcome(IngestedAudio audio, BulkIngestItemResult failure) {
+    }
+
+    // One run per request: the calling thread reads and spools entries, workers validate, parse and store the ones
+    // whose content is not stored yet.
+    private class Run {
+
+        private final Consumer<BulkIngestItemResult> results;
+        private final CompletionService<Outcome> completionService = new ExecutorCompletionService<>(ingestExecutor);
+        private final Semaphore permits = new Semaphore(queueCapacity);
+        private final List<IngestedAudio> pendingBatch = new ArrayList<>();
+        private int inFlight;
+        private int created;
+        private int failed;
+
+        private Run(Consumer<BulkIngestItemResult> results) {
+            this.results = results;
+        }
+
+        private void execute(IngestEntries entries) throws IOException {
+            boolean completed = false;
+            try (entries) {
+                int index = 0;
+                IngestEntry entry;
+                while ((entry = entries.next()) != null) {
+                    awaitCapacity();
+                    submit(index++, entry);
+                    collectCompleted();
+                }
+
+                while (inFlight > 0) {
+                    handle(completionService.take());
+                }
+                flush();
+                completed = true;
+                logger.info("Bulk ingest finished: {} created, {} failed", created, failed);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DataProcessingException("Bulk ingest was interrupted", e);
+            } finally {
+                if (!completed) {
+                    abandon();
+                }
+            }
+        }
+
+        private void awaitCapacity() throws InterruptedException {
+            while (!permits.tryAcquire()) {
+                handle(completionService.take());
+            }
+        }
+
+        private void submit(int index, IngestEntry entry) throws IOException {
+            SpooledAudio spooledAudio = null;
+            try {
+                spooledAudio = audioSpooler.open(entry.content());
+                ingestMetrics.time(IngestStage.SPOOL, spooledAudio::drain);
+                ingestMetrics.recordPayloadSize(IngestSource.BULK, spooledAudio.size());
+            } catch (InvalidResourceException e) {
+                closeQuietly(spooledAudio);
+                permits.release();
+                report(BulkIngestItemResult.failed(index, entry.name(), e.getMessage()));
+                return;
+            } catch (IOException | RuntimeException e) {
+                closeQuietly(spooledAudio);
+                permits.release();
+                throw e;
+            }
+
+            SpooledAudio spooled = spooledAudio;
+            completionService.submit(() -> process(index, entry.name(), spooled));
+            inFlight++;
+        }
+
+        private void collectCompleted() throws InterruptedException {
+            Future<Outcome> completedTask;
+            while ((completedTask = completionService.poll()) != null) {
+                handle(completedTask);
+            }
+        }
+
+        private void handle(Future<Outcome> completedTask) throws InterruptedException {
+            inFlight--;
+            permits.release();
+
+            Outcome outcome;
+            try {
+                outcome = completedTask.get();
+            } catch (ExecutionException e) {
+                throw new DataProcessingException("Bulk ingest worker failed unexpectedly", e.getCause());
+            }
+
+            if (outcome.failure() != null) {
+                report(outcome.failure());
+                return;
+            }
+
+            pendingBatch.add(outcome.audio());
+            if (pendingBatch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (pendingBatch.isEmpty()) {
+                return;
+            }
+
+            List<IngestedAudio> batch = List.copyOf(pendingBatch);
+            pendingBatch.clear();
+            resourceService.createAll(batch).forEach(this::report);
+        }
+
+        private void report(BulkIngestItemResult result) {
+            if (result.status() == BulkIngestItemResult.Status.CREATED) {
+                created++;
+            } else {
+                failed++;
+            }
+            results.accept(result);
+        }
+
+        // Stored blobs of items that never reached the database must not be left behind.
+        private void abandon() {
+            List<IngestedAudio> unpersisted = new ArrayList<>(pendingBatch);
+            while (inFlight > 0) {
+                try {
+                    Outcome outcome = completionService.take().get();
+                    if (outcome.audio() != null) {
+                        unpersisted.add(outcome.audio());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (ExecutionException e) {
+                    logger.warn("Bulk ingest worker failed while abandoning the batch", e.getCause());
+                }
+                inFlight--;
+            }
+
+            ingestMetrics.time(IngestStage.COMPENSATION, () -> resourceService.discard(unpersisted));
+            logger.warn("Bulk ingest aborted after {} created and {} failed items, discarded {} stored items",
+                    created, failed, unpersisted.size());
+        }
+    }
+
+    private Outcome process(int index, String name, SpooledAudio spooledAudio) {
+        try (spooledAudio) {
+            ingestMetrics.time(IngestStage.VALIDATION, () -> mp3MetadataExtractor.validate(spooledAudio.head()));
+
+            AudioFingerprint fingerprint = ingestMetrics.time(IngestStage.FINGERPRINT,
+                    () -> audioFingerprintService.fingerprint(spooledAudio.checksum(), spooledAudio.path()))
+                    .orElse(null);
+
+            Optional<AudioBlob> storedBlob = audioBlobRepository.findById(spooledAudio.checksum())
+                    .filter(AudioBlob::hasMetadata);
+            if (storedBlob.isPresent()) {
+                songMetadataValidator.validate(storedBlob.get().songMetadata());
+                ingestMetrics.recordDeduplicated(IngestSource.BULK);
+                return new Outcome(new IngestedAudio(index, name, storedBlob.get().getStorageKey(), spooledAudio.size(),
+                        spooledAudio.checksum(), storedBlob.get().songMetadata(), true, fingerprint), null);
+            }
+
+            Map<String, String> songMetadata = ingestMetrics.time(IngestStage.EXTRACTION,
+                    () -> mp3MetadataExtractor.extract(spooledAudio.path()));
+            songMetadataValidator.validate(songMetadata);
+            String storageKey = ingestMetrics.time(IngestStage.STORAGE,
+                    () -> blobStore.put(spooledAudio.path(), spooledAudio.checksum()));
+
+            return new Outcome(new IngestedAudio(index, name, storageKey, spooledAudio.size(),
+                    spooledAudio.checksum(), songMetadata, false, fingerprint), null);
+        } catch (InvalidResourceException | DataProcessingException e) {
+            return new Outcome(null, BulkIngestItemResult.failed(index, name, e.getMessage()));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to ingest '{}' (item {})", name, index, e);
+            return new Outcome(null, BulkIngestItemResult.failed(index, name, "Failed to store MP3 data"));
+        }
+    }
+
+    private void closeQuietly(SpooledAudio spooledAudio) {
+        if (spooledAudio == null) {
+            return;
+        }
+        try {
+            spooledAudio.close();
+        } catch (IOException e) {
+            logger.warn("Failed to remove spool file {}", spooledAudio.path(), e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.musicplatform.resource.ingest;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface IngestEntries extends Closeable {
+
+    // Returns null once the batch is exhausted; an entry's content is only readable until the next call.
+    IngestEntry next() throws IOException;
+}
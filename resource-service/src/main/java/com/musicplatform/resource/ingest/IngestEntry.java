@@ -0,0 +1,6 @@
+package com.musicplatform.resource.ingest;
+
+import java.io.InputStream;
+
+public record IngestEntry(String name, InputStream content) {
+}
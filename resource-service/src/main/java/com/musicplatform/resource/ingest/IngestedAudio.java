@@ -0,0 +1,10 @@
+package com.musicplatform.resource.ingest;
+
+import com.musicplatform.resource.fingerprint.AudioFingerprint;
+
+import java.util.Map;
+
+public record IngestedAudio(int index, String name, String storageKey, long size, String checksum,
+                            Map<String, String> songMetadata, boolean deduplicated,
+                            AudioFingerprint fingerprint) {
+}
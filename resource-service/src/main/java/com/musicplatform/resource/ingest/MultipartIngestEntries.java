@@ -0,0 +1,38 @@
+package com.musicplatform.resource.ingest;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+
+public class MultipartIngestEntries implements IngestEntries {
+
+    private final Iterator<MultipartFile> files;
+    private InputStream current;
+
+    public MultipartIngestEntries(List<MultipartFile> files) {
+        this.files = files.iterator();
+    }
+
+    @Override
+    public IngestEntry next() throws IOException {
+        close();
+        if (!files.hasNext()) {
+            return null;
+        }
+
+        MultipartFile file = files.next();
+        current = file.getInputStream();
+        return new IngestEntry(file.getOriginalFilename(), current);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.musicplatform.resource.metadata;
+
+public record AudioMetadata(String title, String artist, String album, String releaseDate, Double durationSeconds) {
+}
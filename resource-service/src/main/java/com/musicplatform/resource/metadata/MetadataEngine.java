@@ -0,0 +1,18 @@
+package com.musicplatform.resource.metadata;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+public enum MetadataEngine {
+
+    NATIVE,
+    TIKA;
+
+    public static MetadataEngine from(String value) {
+        String normalized = value.trim().replace('-', '_').toUpperCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(engine -> engine.name().equals(normalized))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown metadata engine: " + value));
+    }
+}
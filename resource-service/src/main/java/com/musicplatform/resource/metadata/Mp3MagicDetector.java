@@ -0,0 +1,65 @@
+package com.musicplatform.resource.metadata;
+
+import org.apache.tika.detect.Detector;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.mime.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public class Mp3MagicDetector implements Detector {
+
+    public static final MediaType AUDIO_MPEG = MediaType.audio("mpeg");
+
+    private static final int MAGIC_LENGTH = 4;
+    private static final byte[] ID3V2_MAGIC = {'I', 'D', '3'};
+
+    @Override
+    public MediaType detect(InputStream input, Metadata metadata) throws IOException {
+        if (input == null) {
+            return MediaType.OCTET_STREAM;
+        }
+
+        input.mark(MAGIC_LENGTH);
+        try {
+            byte[] magic = input.readNBytes(MAGIC_LENGTH);
+            return matches(magic, magic.length) ? AUDIO_MPEG : MediaType.OCTET_STREAM;
+        } finally {
+            input.reset();
+        }
+    }
+
+    public boolean matches(byte[] data, int length) {
+        return startsWithId3Tag(data, length) || startsWithFrameSync(data, length);
+    }
+
+    private boolean startsWithId3Tag(byte[] data, int length) {
+        if (length < ID3V2_MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < ID3V2_MAGIC.length; i++) {
+            if (data[i] != ID3V2_MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean startsWithFrameSync(byte[] data, int length) {
+        if (length < 3) {
+            return false;
+        }
+
+        int versionBits = (data[1] >> 3) & 0x03;
+        int layerBits = (data[1] >> 1) & 0x03;
+        int bitrateIndex = (data[2] >> 4) & 0x0F;
+        int sampleRateIndex = (data[2] >> 2) & 0x03;
+
+        return (data[0] & 0xFF) == 0xFF
+                && (data[1] & 0xE0) == 0xE0
+                && versionBits != 0x01
+                && layerBits != 0x00
+                && bitrateIndex != 0x0F
+                && sampleRateIndex != 0x03;
+    }
+}
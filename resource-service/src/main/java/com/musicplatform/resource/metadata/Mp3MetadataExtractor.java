@@ -0,0 +1,147 @@
+package com.musicplatform.resource.metadata;
+
+import com.musicplatform.resource.exception.DataProcessingException;
+import com.musicplatform.resource.exception.InvalidResourceException;
+import org.apache.tika.exception.TikaException;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.parser.mp3.Mp3Parser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+public class Mp3MetadataExtractor {
+
+    private static final Logger logger = LoggerFactory.getLogger(Mp3MetadataExtractor.class);
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final Pattern YEAR_PATTERN = Pattern.compile("\\b(19\\d{2}|20\\d{2})\\b");
+
+    // Tika parsers keep no per-parse state, so one instance serves every upload.
+    private final Mp3Parser mp3Parser = new Mp3Parser();
+    private final ParseContext parseContext = new ParseContext();
+    private final Mp3MagicDetector detector = new Mp3MagicDetector();
+    private final NativeMp3MetadataReader nativeReader = new NativeMp3MetadataReader();
+    private final MetadataEngine engine;
+
+    @Autowired
+    public Mp3MetadataExtractor(@Value("${resource.metadata.engine}") String engine) {
+        this.engine = MetadataEngine.from(engine);
+    }
+
+    public void validate(byte[] head) {
+        Map<Supplier<Boolean>, String> checks = Map.of(
+                () -> head == null || head.length == 0, "MP3 data is empty",
+                () -> !isAudioMpeg(head), "Invalid MP3 data. Expected audio/mpeg media type");
+
+        checks.forEach((condition, message) -> {
+            if (Boolean.TRUE.equals(condition.get())) {
+                logger.warn("Validation failed: {}", message);
+                throw new InvalidResourceException(message);
+            }
+        });
+    }
+
+    public boolean isAudioMpeg(byte[] head) {
+        return head != null && detector.matches(head, head.length);
+    }
+
+    public Map<String, String> extract(Path audioFile) {
+        AudioMetadata metadata = readNatively(audioFile)
+                .orElseGet(() -> readWithTika(audioFile));
+
+        Map<String, String> metadataMap = new HashMap<>();
+        metadataMap.put("name", metadata.title());
+        metadataMap.put("artist", metadata.artist());
+        metadataMap.put("album", metadata.album());
+        metadataMap.put("duration", formatAsMinutesAndSeconds(metadata.durationSeconds()));
+        metadataMap.put("year", extractYear(metadata.releaseDate()));
+
+        logger.info("Successfully extracted MP3 metadata: {}", metadataMap);
+
+        return metadataMap;
+    }
+
+    private Optional<AudioMetadata> readNatively(Path audioFile) {
+        if (engine != MetadataEngine.NATIVE) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(audioFile, StandardOpenOption.READ)) {
+            MappedByteBuffer audio = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            Optional<AudioMetadata> metadata = nativeReader.read(audio);
+            if (metadata.isEmpty()) {
+                logger.debug("Native MP3 reader could not decide on {}, falling back to Tika", audioFile);
+            }
+            return metadata;
+        } catch (IOException e) {
+            throw new DataProcessingException("Failed to extract MP3 metadata", e);
+        }
+    }
+
+    private AudioMetadata readWithTika(Path audioFile) {
+        Metadata metadata = new Metadata();
+
+        try (InputStream audioStream = Files.newInputStream(audioFile)) {
+            mp3Parser.parse(audioStream, new DefaultHandler(), metadata, parseContext);
+        } catch (IOException | SAXException | TikaException e) {
+            throw new DataProcessingException("Failed to extract MP3 metadata", e);
+        }
+
+        return new AudioMetadata(
+                metadata.get("dc:title"),
+                metadata.get("xmpDM:artist"),
+                metadata.get("xmpDM:album"),
+                metadata.get("xmpDM:releaseDate"),
+                parseSeconds(metadata.get("xmpDM:duration")));
+    }
+
+    private Double parseSeconds(String durationStr) {
+        if (durationStr == null) {
+            return null;
+        }
+
+        try {
+            return Double.parseDouble(durationStr);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static String formatAsMinutesAndSeconds(Double durationSeconds) {
+        if (durationSeconds == null) {
+            return null;
+        }
+
+        int totalSeconds = durationSeconds.intValue();
+        int minutes = totalSeconds / SECONDS_PER_MINUTE;
+        int seconds = totalSeconds % SECONDS_PER_MINUTE;
+        return String.format("%02d:%02d", minutes, seconds);
+    }
+
+    static String extractYear(String releaseDate) {
+        if (releaseDate == null) {
+            return null;
+        }
+        Matcher matcher = YEAR_PATTERN.matcher(releaseDate);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
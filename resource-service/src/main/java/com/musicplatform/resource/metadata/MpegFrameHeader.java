@@ -0,0 +1,72 @@
+package com.musicplatform.resource.metadata;
+
+record MpegFrameHeader(int version, int layer, int bitrate, int sampleRate, boolean padding, boolean mono) {
+
+    static final int MPEG_1 = 3;
+    static final int MPEG_2 = 2;
+    static final int MPEG_2_5 = 0;
+
+    private static final int[][] BITRATES_KBPS = {
+            {0, 32, 64, 96, 128, 160, 192, 224, 256, 288, 320, 352, 384, 416, 448},
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320, 384},
+            {0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320},
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 144, 160, 176, 192, 224, 256},
+            {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160}
+    };
+    private static final int[][] SAMPLE_RATES = {
+            {11025, 12000, 8000},
+            {},
+            {22050, 24000, 16000},
+            {44100, 48000, 32000}
+    };
+
+    static MpegFrameHeader parse(int header) {
+        if ((header & 0xFFE00000) != 0xFFE00000) {
+            return null;
+        }
+
+        int version = (header >>> 19) & 0x03;
+        int layer = 4 - ((header >>> 17) & 0x03);
+        int bitrateIndex = (header >>> 12) & 0x0F;
+        int sampleRateIndex = (header >>> 10) & 0x03;
+
+        // bitrate index 0 is free format: frame length cannot be derived from the header
+        if (version == 1 || layer == 4 || bitrateIndex == 0 || bitrateIndex == 0x0F || sampleRateIndex == 0x03) {
+            return null;
+        }
+
+        int bitrateTable = version == MPEG_1 ? layer - 1 : (layer == 1 ? 3 : 4);
+        return new MpegFrameHeader(
+                version,
+                layer,
+                BITRATES_KBPS[bitrateTable][bitrateIndex] * 1000,
+                SAMPLE_RATES[version][sampleRateIndex],
+                ((header >>> 9) & 0x01) == 1,
+                ((header >>> 6) & 0x03) == 3);
+    }
+
+    int samplesPerFrame() {
+        if (layer == 1) {
+            return 384;
+        }
+        return layer == 3 && version != MPEG_1 ? 576 : 1152;
+    }
+
+    int frameLength() {
+        if (layer == 1) {
+            return (12 * bitrate / sampleRate + (padding ? 1 : 0)) * 4;
+        }
+        return samplesPerFrame() / 8 * bitrate / sampleRate + (padding ? 1 : 0);
+    }
+
+    int sideInfoLength() {
+        if (version == MPEG_1) {
+            return mono ? 17 : 32;
+        }
+        return mono ? 9 : 17;
+    }
+
+    boolean sameStreamAs(MpegFrameHeader other) {
+        return version == other.version && layer == other.layer && sampleRate == other.sampleRate;
+    }
+}
@@ -0,0 +1,359 @@
+package com.musicplatform.resource.metadata;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+public class NativeMp3MetadataReader {
+
+    private static final int ID3V2_HEADER_LENGTH = 10;
+    private static final int ID3V1_TAG_LENGTH = 128;
+    private static final int FRAME_HEADER_LENGTH = 4;
+
+    private static final int ID3V2_FLAG_UNSYNCHRONISATION = 0x80;
+    private static final int ID3V2_FLAG_EXTENDED_HEADER = 0x40;
+    private static final int ID3V2_FLAG_FOOTER = 0x10;
+
+    private static final int XING_FLAG_FRAMES = 0x01;
+    private static final int XING_FRAMES_END = 12;
+    private static final int VBRI_OFFSET = 36;
+    private static final int VBRI_FRAMES_END = 18;
+
+    public Optional<AudioMetadata> read(ByteBuffer audio) {
+        try {
+            return readTagsAndDuration(audio.duplicate());
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<AudioMetadata> readTagsAndDuration(ByteBuffer audio) {
+        TagFields tags = new TagFields();
+        int audioStart = 0;
+
+        if (hasId3v2Tag(audio)) {
+            audioStart = readId3v2(audio, tags);
+            if (audioStart < 0) {
+                return Optional.empty();
+            }
+        }
+
+        int audioEnd = audio.limit();
+        if (hasId3v1Tag(audio)) {
+            audioEnd -= ID3V1_TAG_LENGTH;
+            readId3v1(audio, audioEnd, tags);
+        }
+
+        Double duration = readDuration(audio, audioStart, audioEnd);
+        if (duration == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new AudioMetadata(tags.title, tags.artist, tags.album, tags.releaseDate, duration));
+    }
+
+    private boolean hasId3v2Tag(ByteBuffer audio) {
+        return audio.limit() >= ID3V2_HEADER_LENGTH
+                && audio.get(0) == 'I' && audio.get(1) == 'D' && audio.get(2) == '3';
+    }
+
+    private boolean hasId3v1Tag(ByteBuffer audio) {
+        int start = audio.limit() - ID3V1_TAG_LENGTH;
+        return start >= 0 && audio.get(start) == 'T' && audio.get(start + 1) == 'A' && audio.get(start + 2) == 'G';
+    }
+
+    // Returns the offset of the first byte after the tag, or -1 if the tag is a version we leave to Tika.
+    private int readId3v2(ByteBuffer audio, TagFields tags) {
+        int majorVersion = audio.get(3) & 0xFF;
+        int flags = audio.get(5) & 0xFF;
+        int tagSize = synchsafeInt(audio, 6);
+        int tagEnd = ID3V2_HEADER_LENGTH + tagSize + ((flags & ID3V2_FLAG_FOOTER) != 0 ? ID3V2_HEADER_LENGTH : 0);
+
+        if (majorVersion != 3 && majorVersion != 4) {
+            return -1;
+        }
+
+        ByteBuffer frames = slice(audio, ID3V2_HEADER_LENGTH, tagSize);
+        if (majorVersion == 3 && (flags & ID3V2_FLAG_UNSYNCHRONISATION) != 0) {
+            frames = ByteBuffer.wrap(resynchronise(frames));
+        }
+        if ((flags & ID3V2_FLAG_EXTENDED_HEADER) != 0) {
+            int extendedHeaderSize = majorVersion == 4 ? synchsafeInt(frames, 0) : frames.getInt(0) + 4;
+            frames.position(extendedHeaderSize);
+        }
+
+        while (frames.remaining() >= ID3V2_HEADER_LENGTH) {
+            int frameStart = frames.position();
+            if (!isFrameIdByte(frames.get(frameStart))) {
+                break;
+            }
+
+            String frameId = new String(new byte[]{frames.get(frameStart), frames.get(frameStart + 1),
+                    frames.get(frameStart + 2), frames.get(frameStart + 3)}, StandardCharsets.ISO_8859_1);
+            int frameSize = majorVersion == 4 ? synchsafeInt(frames, frameStart + 4) : frames.getInt(frameStart + 4);
+            int frameFlags = frames.getShort(frameStart + 8) & 0xFFFF;
+            int dataStart = frameStart + ID3V2_HEADER_LENGTH;
+
+            if (frameSize <= 0 || dataStart + frameSize > frames.limit()) {
+                break;
+            }
+            frames.position(dataStart + frameSize);
+
+            if (isWantedTextFrame(frameId)) {
+                ByteBuffer data = frameData(slice(frames, dataStart, frameSize), frameFlags, majorVersion);
+                if (data != null) {
+                    tags.fromId3v2(frameId, decodeText(data));
+                }
+            }
+        }
+
+        return tagEnd;
+    }
+
+    private ByteBuffer frameData(ByteBuffer data, int frameFlags, int majorVersion) {
+        if (majorVersion == 3) {
+            boolean compressedOrEncrypted = (frameFlags & 0x00C0) != 0;
+            if (compressedOrEncrypted) {
+                return null;
+            }
+            if ((frameFlags & 0x0020) != 0) {
+                data.position(data.position() + 1);
+            }
+            return data;
+        }
+
+        boolean compressedOrEncrypted = (frameFlags & 0x000C) != 0;
+        if (compressedOrEncrypted) {
+            return null;
+        }
+        if ((frameFlags & 0x0040) != 0) {
+            data.position(data.position() + 1);
+        }
+        if ((frameFlags & 0x0001) != 0) {
+            data.position(data.position() + 4);
+        }
+        if ((frameFlags & 0x0002) != 0) {
+            return ByteBuffer.wrap(resynchronise(data));
+        }
+        return data;
+    }
+
+    private boolean isWantedTextFrame(String frameId) {
+        return switch (frameId) {
+            case "TIT2", "TPE1", "TALB", "TYER", "TDRC" -> true;
+            default -> false;
+        };
+    }
+
+    private boolean isFrameIdByte(byte value) {
+        return (value >= 'A' && value <= 'Z') || (value >= '0' && value <= '9');
+    }
+
+    private String decodeText(ByteBuffer data) {
+        if (!data.hasRemaining()) {
+            return null;
+        }
+
+        int encoding = data.get() & 0xFF;
+        Charset charset = switch (encoding) {
+            case 0 -> StandardCharsets.ISO_8859_1;
+            case 1 -> StandardCharsets.UTF_16;
+            case 2 -> StandardCharsets.UTF_16BE;
+            case 3 -> StandardCharsets.UTF_8;
+            default -> throw new IllegalArgumentException("Unknown ID3v2 text encoding: " + encoding);
+        };
+
+        byte[] bytes = new byte[data.remaining()];
+        data.get(bytes);
+        String text = new String(bytes, charset);
+
+        int terminator = text.indexOf('\0');
+        return blankToNull(terminator >= 0 ? text.substring(0, terminator) : text);
+    }
+
+    private void readId3v1(ByteBuffer audio, int tagStart, TagFields tags) {
+        tags.fromId3v1(
+                latin1(audio, tagStart + 3, 30),
+                latin1(audio, tagStart + 33, 30),
+                latin1(audio, tagStart + 63, 30),
+                latin1(audio, tagStart + 93, 4));
+    }
+
+    private String latin1(ByteBuffer audio, int offset, int length) {
+        byte[] bytes = new byte[length];
+        audio.get(offset, bytes);
+
+        int end = 0;
+        while (end < length && bytes[end] != 0) {
+            end++;
+        }
+        return blankToNull(new String(bytes, 0, end, StandardCharsets.ISO_8859_1).trim());
+    }
+
+    private Double readDuration(ByteBuffer audio, int audioStart, int audioEnd) {
+        int firstFrame = findFirstFrame(audio, audioStart, audioEnd);
+        if (firstFrame < 0) {
+            return null;
+        }
+
+        MpegFrameHeader first = MpegFrameHeader.parse(audio.getInt(firstFrame));
+        Long frameCount = readVbrFrameCount(audio, firstFrame, first);
+        if (frameCount != null) {
+            return (double) frameCount * first.samplesPerFrame() / first.sampleRate();
+        }
+
+        // Without a VBR header the frames are counted. Anything between them, e.g. an APEv2 or Lyrics3 tag or a
+        // corrupt frame, is skipped by resyncing on the next confirmed frame of the same stream.
+        long samples = 0;
+        long frameBytes = 0;
+        int position = firstFrame;
+        while (position + FRAME_HEADER_LENGTH <= audioEnd) {
+            MpegFrameHeader header = MpegFrameHeader.parse(audio.getInt(position));
+            if (header == null || !header.sameStreamAs(first)) {
+                position = findFrame(audio, position + 1, audioEnd, first);
+                if (position < 0) {
+                    break;
+                }
+                continue;
+            }
+            samples += header.samplesPerFrame();
+            frameBytes += header.frameLength();
+            position += header.frameLength();
+        }
+
+        // When more bytes were skipped than counted, this is not a stream we understand and Tika gets to decide.
+        long skippedBytes = audioEnd - firstFrame - frameBytes;
+        if (skippedBytes > frameBytes) {
+            return null;
+        }
+        return (double) samples / first.sampleRate();
+    }
+
+    // A frame is accepted when it is at the expected start or is immediately followed by another frame of the same stream.
+    private int findFirstFrame(ByteBuffer audio, int audioStart, int audioEnd) {
+        for (int position = audioStart; position + FRAME_HEADER_LENGTH <= audioEnd; position++) {
+            if ((audio.get(position) & 0xFF) != 0xFF) {
+                continue;
+            }
+
+            MpegFrameHeader header = MpegFrameHeader.parse(audio.getInt(position));
+            if (header == null) {
+                continue;
+            }
+            if (position == audioStart || isConfirmed(audio, position, header, audioEnd)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private int findFrame(ByteBuffer audio, int from, int audioEnd, MpegFrameHeader stream) {
+        for (int position = from; position + FRAME_HEADER_LENGTH <= audioEnd; position++) {
+            if ((audio.get(position) & 0xFF) != 0xFF) {
+                continue;
+            }
+
+            MpegFrameHeader header = MpegFrameHeader.parse(audio.getInt(position));
+            if (header != null && header.sameStreamAs(stream) && isConfirmed(audio, position, header, audioEnd)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    // The last frame of the audio cannot be followed by another, so it counts as confirmed too.
+    private boolean isConfirmed(ByteBuffer audio, int position, MpegFrameHeader header, int audioEnd) {
+        int next = position + header.frameLength();
+        if (next + FRAME_HEADER_LENGTH > audioEnd) {
+            return true;
+        }
+        MpegFrameHeader nextHeader = MpegFrameHeader.parse(audio.getInt(next));
+        return nextHeader != null && nextHeader.sameStreamAs(header);
+    }
+
+    private Long readVbrFrameCount(ByteBuffer audio, int frameStart, MpegFrameHeader header) {
+        int xingOffset = frameStart + FRAME_HEADER_LENGTH + header.sideInfoLength();
+        if (matchesAscii(audio, xingOffset, "Xing", XING_FRAMES_END) || matchesAscii(audio, xingOffset, "Info", XING_FRAMES_END)) {
+            int flags = audio.getInt(xingOffset + 4);
+            if ((flags & XING_FLAG_FRAMES) != 0) {
+                return Integer.toUnsignedLong(audio.getInt(xingOffset + 8));
+            }
+            return null;
+        }
+
+        int vbriOffset = frameStart + VBRI_OFFSET;
+        if (matchesAscii(audio, vbriOffset, "VBRI", VBRI_FRAMES_END)) {
+            return Integer.toUnsignedLong(audio.getInt(vbriOffset + 14));
+        }
+        return null;
+    }
+
+    private boolean matchesAscii(ByteBuffer audio, int offset, String marker, int requiredLength) {
+        if (offset + requiredLength > audio.limit()) {
+            return false;
+        }
+        for (int i = 0; i < marker.length(); i++) {
+            if (audio.get(offset + i) != marker.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int synchsafeInt(ByteBuffer buffer, int offset) {
+        return (buffer.get(offset) & 0x7F) << 21
+                | (buffer.get(offset + 1) & 0x7F) << 14
+                | (buffer.get(offset + 2) & 0x7F) << 7
+                | (buffer.get(offset + 3) & 0x7F);
+    }
+
+    private ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+        return buffer.slice(offset, Math.min(length, buffer.limit() - offset));
+    }
+
+    private byte[] resynchronise(ByteBuffer data) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(data.remaining());
+        byte previous = 0;
+        while (data.hasRemaining()) {
+            byte current = data.get();
+            if (!(previous == (byte) 0xFF && current == 0)) {
+                output.write(current);
+            }
+            previous = current;
+        }
+        return output.toByteArray();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static class TagFields {
+
+        private String title;
+        private String artist;
+        private String album;
+        private String releaseDate;
+
+        private void fromId3v2(String frameId, String value) {
+            switch (frameId) {
+                case "TIT2" -> title = value;
+                case "TPE1" -> artist = value;
+                case "TALB" -> album = value;
+                case "TDRC", "TYER" -> releaseDate = releaseDate == null ? value : releaseDate;
+                default -> {
+                }
+            }
+        }
+
+        private void fromId3v1(String title, String artist, String album, String year) {
+            this.title = this.title == null ? title : this.title;
+            this.artist = this.artist == null ? artist : this.artist;
+            this.album = this.album == null ? album : this.album;
+            this.releaseDate = this.releaseDate == null ? year : this.releaseDate;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.musicplatform.resource.metadata;
+
+import com.musicplatform.resource.dto.SongMetadataRequest;
+import com.musicplatform.resource.exception.InvalidResourceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Song metadata is delivered after the upload has been accepted, so anything song-service would refuse has to be
+// caught here; otherwise the resource would be stored without a song and the client would never know.
+@Component
+public class SongMetadataValidator {
+
+    private final Validator validator;
+
+    @Autowired
+    public SongMetadataValidator(Validator validator) {
+        this.validator = validator;
+    }
+
+    public void validate(Map<String, String> songMetadata) {
+        Set<ConstraintViolation<SongMetadataRequest>> violations = validator.validate(new SongMetadataRequest(
+                null,
+                songMetadata.get("name"),
+                songMetadata.get("artist"),
+                songMetadata.get("album"),
+                songMetadata.get("duration"),
+                songMetadata.get("year")));
+
+        if (!violations.isEmpty()) {
+            String message = "Invalid song metadata in MP3 data: " + violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            throw new InvalidResourceException(message);
+        }
+    }
+}
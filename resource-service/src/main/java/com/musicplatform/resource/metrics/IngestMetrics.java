@@ -0,0 +1,93 @@
+package com.musicplatform.resource.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// Stages are observations, so each one is both a resource.ingest.stage timer and a span in the upload's trace.
+@Component
+public class IngestMetrics {
+
+    private static final String STAGE_OBSERVATION = "resource.ingest.stage";
+    private static final String PAYLOAD_SIZE_METER = "resource.ingest.payload.size";
+    private static final String DEDUPLICATED_METER = "resource.ingest.deduplicated";
+    private static final double MIN_EXPECTED_PAYLOAD_BYTES = 1024;
+
+    private final ObservationRegistry observationRegistry;
+    private final Map<IngestSource, DistributionSummary> payloadSizes = new EnumMap<>(IngestSource.class);
+    private final Map<IngestSource, Counter> deduplicated = new EnumMap<>(IngestSource.class);
+
+    @FunctionalInterface
+    public interface StageCall<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    @FunctionalInterface
+    public interface StageAction<E extends Exception> {
+        void run() throws E;
+    }
+
+    @Autowired
+    public IngestMetrics(ObservationRegistry observationRegistry,
+                         MeterRegistry meterRegistry,
+                         @Value("${resource.upload.max-size}") long maxUploadSize) {
+        this.observationRegistry = observationRegistry;
+        for (IngestSource source : IngestSource.values()) {
+            payloadSizes.put(source, DistributionSummary.builder(PAYLOAD_SIZE_METER)
+                    .description("Size of ingested MP3 payloads")
+                    .baseUnit("bytes")
+                    .tag("source", source.tagValue())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MIN_EXPECTED_PAYLOAD_BYTES)
+                    .maximumExpectedValue((double) maxUploadSize)
+                    .register(meterRegistry));
+            deduplicated.put(source, Counter.builder(DEDUPLICATED_METER)
+                    .description("Ingested MP3 payloads resolved to an already stored blob")
+                    .tag("source", source.tagValue())
+                    .register(meterRegistry));
+        }
+    }
+
+    public <T, E extends Exception> T time(IngestStage stage, StageCall<T, E> call) throws E {
+        Observation observation = Observation.createNotStarted(STAGE_OBSERVATION, observationRegistry)
+                .contextualName("ingest " + stage.tagValue())
+                .lowCardinalityKeyValue("stage", stage.tagValue())
+                .start();
+        boolean success = false;
+
+        try (Observation.Scope scope = observation.openScope()) {
+            T result = call.call();
+            success = true;
+            return result;
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.lowCardinalityKeyValue("outcome", success ? "success" : "failure");
+            observation.stop();
+        }
+    }
+
+    public <E extends Exception> void time(IngestStage stage, StageAction<E> action) throws E {
+        time(stage, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public void recordPayloadSize(IngestSource source, long bytes) {
+        payloadSizes.get(source).record(bytes);
+    }
+
+    public void recordDeduplicated(IngestSource source) {
+        deduplicated.get(source).increment();
+    }
+}
@@ -0,0 +1,17 @@
+package com.musicplatform.resource.metrics;
+
+public enum IngestSource {
+
+    UPLOAD("upload"),
+    BULK("bulk");
+
+    private final String tagValue;
+
+    IngestSource(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String tagValue() {
+        return tagValue;
+    }
+}
@@ -0,0 +1,23 @@
+package com.musicplatform.resource.metrics;
+
+public enum IngestStage {
+
+    SPOOL("spool"),
+    VALIDATION("validation"),
+    EXTRACTION("extraction"),
+    FINGERPRINT("fingerprint"),
+    STORAGE("storage"),
+    PERSISTENCE("persistence"),
+    SONG_SERVICE("song-service"),
+    COMPENSATION("compensation");
+
+    private final String tagValue;
+
+    IngestStage(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String tagValue() {
+        return tagValue;
+    }
+}
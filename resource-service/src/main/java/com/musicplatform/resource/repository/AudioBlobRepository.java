@@ -0,0 +1,15 @@
+package com.musicplatform.resource.repository;
+
+import com.musicplatform.resource.entity.AudioBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface AudioBlobRepository extends JpaRepository<AudioBlob, String>, AudioBlobRepositoryCustom {
+
+    @Query("SELECT b.storageKey FROM AudioBlob b WHERE b.storageKey IN :storageKeys")
+    Set<String> findReferencedStorageKeys(@Param("storageKeys") Collection<String> storageKeys);
+}
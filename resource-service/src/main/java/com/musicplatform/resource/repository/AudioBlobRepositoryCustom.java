@@ -0,0 +1,18 @@
+package com.musicplatform.resource.repository;
+
+import com.musicplatform.resource.entity.AudioBlob;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface AudioBlobRepositoryCustom {
+
+    void lockStorageKeys(Collection<String> storageKeys);
+
+    Set<String> retainAll(List<String> checksums);
+
+    void registerAll(List<AudioBlob> audioBlobs);
+
+    List<String> releaseAll(List<String> checksums);
+}
@@ -0,0 +1,157 @@
+package com.musicplatform.resource.repository;
+
+import com.musicplatform.resource.entity.AudioBlob;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+// Every statement touches rows in checksum order, so concurrent batches lock shared blobs in the same order.
+public class AudioBlobRepositoryImpl implements AudioBlobRepositoryCustom {
+
+    private static final int STORAGE_KEY_LOCK_NAMESPACE = 0x626c6f62;
+    // Volatile functions in the select list run after ORDER BY, so the locks are taken in ascending order.
+    private static final String LOCK_STORAGE_KEYS_SQL =
+            "SELECT pg_advisory_xact_lock(?, lock_key) FROM unnest(?::int[]) AS lock_key ORDER BY lock_key";
+
+    private static final String RETAIN_SQL =
+            "UPDATE audio_blobs SET ref_count = ref_count + 1 WHERE checksum = ?";
+    private static final String REGISTER_SQL = """
+            INSERT INTO audio_blobs
+                (checksum, storage_key, size_bytes, ref_count, has_metadata, name, artist, album, duration, year, created_at)
+            VALUES (?, ?, ?, 1, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (checksum) DO UPDATE SET
+                ref_count = audio_blobs.ref_count + 1,
+                has_metadata = audio_blobs.has_metadata OR EXCLUDED.has_metadata,
+                name = CASE WHEN audio_blobs.has_metadata THEN audio_blobs.name ELSE EXCLUDED.name END,
+                artist = CASE WHEN audio_blobs.has_metadata THEN audio_blobs.artist ELSE EXCLUDED.artist END,
+                album = CASE WHEN audio_blobs.has_metadata THEN audio_blobs.album ELSE EXCLUDED.album END,
+                duration = CASE WHEN audio_blobs.has_metadata THEN audio_blobs.duration ELSE EXCLUDED.duration END,
+                year = CASE WHEN audio_blobs.has_metadata THEN audio_blobs.year ELSE EXCLUDED.year END""";
+    private static final String RELEASE_SQL =
+            "UPDATE audio_blobs SET ref_count = ref_count - 1 WHERE checksum = ?";
+    private static final String DELETE_UNREFERENCED_SQL =
+            "DELETE FROM audio_blobs WHERE checksum = ANY(?) AND ref_count <= 0 RETURNING storage_key";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public AudioBlobRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Transaction-scoped locks that serialise registering a blob with checking and deleting an unreferenced one.
+    @Override
+    public void lockStorageKeys(Collection<String> storageKeys) {
+        int[] lockKeys = storageKeys.stream()
+                .filter(Objects::nonNull)
+                .mapToInt(String::hashCode)
+                .distinct()
+                .toArray();
+        if (lockKeys.length == 0) {
+            return;
+        }
+
+        jdbcTemplate.query(LOCK_STORAGE_KEYS_SQL, preparedStatement -> {
+            preparedStatement.setInt(1, STORAGE_KEY_LOCK_NAMESPACE);
+            preparedStatement.setObject(2, lockKeys);
+        }, resultSet -> {
+            while (resultSet.next()) {
+                // each row is one acquired lock
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public Set<String> retainAll(List<String> checksums) {
+        List<String> ordered = checksums.stream().filter(Objects::nonNull).sorted().toList();
+        if (ordered.isEmpty()) {
+            return Set.of();
+        }
+
+        int[] updateCounts = jdbcTemplate.batchUpdate(RETAIN_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement preparedStatement, int i) throws SQLException {
+                preparedStatement.setString(1, ordered.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ordered.size();
+            }
+        });
+
+        Set<String> retained = new HashSet<>();
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] != 0) {
+                retained.add(ordered.get(i));
+            }
+        }
+        return retained;
+    }
+
+    @Override
+    public void registerAll(List<AudioBlob> audioBlobs) {
+        if (audioBlobs.isEmpty()) {
+            return;
+        }
+
+        List<AudioBlob> ordered = audioBlobs.stream().sorted(Comparator.comparing(AudioBlob::getChecksum)).toList();
+        jdbcTemplate.batchUpdate(REGISTER_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement preparedStatement, int i) throws SQLException {
+                AudioBlob audioBlob = ordered.get(i);
+                preparedStatement.setString(1, audioBlob.getChecksum());
+                preparedStatement.setString(2, audioBlob.getStorageKey());
+                preparedStatement.setLong(3, audioBlob.getSize());
+                preparedStatement.setBoolean(4, audioBlob.hasMetadata());
+                preparedStatement.setString(5, audioBlob.getName());
+                preparedStatement.setString(6, audioBlob.getArtist());
+                preparedStatement.setString(7, audioBlob.getAlbum());
+                preparedStatement.setString(8, audioBlob.getDuration());
+                preparedStatement.setString(9, audioBlob.getYear());
+                preparedStatement.setTimestamp(10, Timestamp.from(audioBlob.getCreatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ordered.size();
+            }
+        });
+    }
+
+    @Override
+    public List<String> releaseAll(List<String> checksums) {
+        List<String> ordered = checksums.stream().filter(Objects::nonNull).sorted().toList();
+        if (ordered.isEmpty()) {
+            return List.of();
+        }
+
+        jdbcTemplate.batchUpdate(RELEASE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement preparedStatement, int i) throws SQLException {
+                preparedStatement.setString(1, ordered.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ordered.size();
+            }
+        });
+
+        String[] released = ordered.stream().distinct().toArray(String[]::new);
+        return jdbcTemplate.query(DELETE_UNREFERENCED_SQL,
+                preparedStatement -> preparedStatement.setObject(1, released),
+                (resultSet, rowNum) -> resultSet.getString(1));
+    }
+}
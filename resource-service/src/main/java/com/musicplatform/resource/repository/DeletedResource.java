@@ -0,0 +1,4 @@
+package com.musicplatform.resource.repository;
+
+public record DeletedResource(Long id, String storageKey, String checksum) {
+}
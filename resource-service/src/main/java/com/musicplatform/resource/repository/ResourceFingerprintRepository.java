@@ -0,0 +1,15 @@
+package com.musicplatform.resource.repository;
+
+import com.musicplatform.resource.entity.ResourceFingerprint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ResourceFingerprintRepository extends JpaRepository<ResourceFingerprint, Long>, ResourceFingerprintRepositoryCustom {
+
+    Optional<ResourceFingerprint> findFirstByChecksum(String checksum);
+
+    List<ResourceFingerprint> findByResourceIdGreaterThanOrderByResourceIdAsc(Long resourceId, Limit limit);
+}
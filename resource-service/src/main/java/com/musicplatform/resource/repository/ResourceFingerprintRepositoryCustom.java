@@ -0,0 +1,12 @@
+package com.musicplatform.resource.repository;
+
+import com.musicplatform.resource.entity.ResourceFingerprint;
+
+import java.util.List;
+
+public interface ResourceFingerprintRepositoryCustom {
+
+    void insertAll(List<ResourceFingerprint> fingerprints);
+
+    List<ResourceFingerprint> deleteAllByResourceIdsReturning(long[] resourceIds);
+}
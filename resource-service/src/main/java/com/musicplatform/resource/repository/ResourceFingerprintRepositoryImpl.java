@@ -0,0 +1,65 @@
+package com.musicplatform.resource.repository;
+
+import com.musicplatform.resource.entity.ResourceFingerprint;
+import com.musicplatform.resource.fingerprint.AudioFingerprint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+
+public class ResourceFingerprintRepositoryImpl implements ResourceFingerprintRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audio_fingerprints (resource_id, checksum, sketch, created_at) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_BY_RESOURCE_IDS_SQL =
+            "DELETE FROM audio_fingerprints WHERE resource_id = ANY(?) RETURNING resource_id, checksum, sketch";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ResourceFingerprintRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<ResourceFingerprint> fingerprints) {
+        if (fingerprints.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement preparedStatement, int i) throws SQLException {
+                ResourceFingerprint fingerprint = fingerprints.get(i);
+                preparedStatement.setLong(1, fingerprint.getResourceId());
+                preparedStatement.setString(2, fingerprint.getChecksum());
+                preparedStatement.setObject(3, fingerprint.getSketch());
+                preparedStatement.setTimestamp(4, Timestamp.from(fingerprint.getCreatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return fingerprints.size();
+            }
+        });
+    }
+
+    @Override
+    public List<ResourceFingerprint> deleteAllByResourceIdsReturning(long[] resourceIds) {
+        return jdbcTemplate.query(DELETE_BY_RESOURCE_IDS_SQL,
+                preparedStatement -> preparedStatement.setObject(1, resourceIds),
+                (resultSet, rowNum) -> new ResourceFingerprint(
+                        resultSet.getLong(1), resultSet.getString(2), new AudioFingerprint(readSketch(resultSet))));
+    }
+
+    private int[] readSketch(ResultSet resultSet) throws SQLException {
+        Integer[] sketch = (Integer[]) resultSet.getArray(3).getArray();
+        return Arrays.stream(sketch).mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -3,6 +3,5 @@ package com.musicplatform.resource.repository;
 import com.musicplatform.resource.entity.Resource;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ResourceRepository extends JpaRepository<Resource, Long> {
-
+public interface ResourceRepository extends JpaRepository<Resource, Long>, ResourceRepositoryCustom {
 }
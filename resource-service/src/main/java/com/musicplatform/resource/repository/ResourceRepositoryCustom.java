@@ -0,0 +1,21 @@
+package com.musicplatform.resource.repository;
+
+import com.musicplatform.resource.entity.Resource;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface ResourceRepositoryCustom {
+
+    InputStream openInlineAudio(Long id);
+
+    long inlineAudioSize(Long id);
+
+    List<Long> findInlineAudioIds(int limit);
+
+    boolean markMigrated(Long id, String storageKey, long size, String checksum);
+
+    List<Long> insertAll(List<Resource> resources);
+
+    List<DeletedResource> deleteAllByIdsReturning(long[] ids);
+}
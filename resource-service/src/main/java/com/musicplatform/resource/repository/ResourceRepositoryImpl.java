@@ -0,0 +1,115 @@
+package com.musicplatform.resource.repository;
+
+import com.musicplatform.resource.entity.Resource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ResourceRepositoryImpl implements ResourceRepositoryCustom {
+
+    private static final String SELECT_INLINE_AUDIO_SQL =
+            "SELECT audio_data FROM resources WHERE id = ? AND audio_data IS NOT NULL";
+    private static final String SELECT_INLINE_AUDIO_SIZE_SQL =
+            "SELECT COALESCE(octet_length(audio_data), 0) FROM resources WHERE id = ?";
+    private static final String SELECT_INLINE_AUDIO_IDS_SQL =
+            "SELECT id FROM resources WHERE storage_key IS NULL AND audio_data IS NOT NULL ORDER BY id LIMIT ?";
+    private static final String MARK_MIGRATED_SQL =
+            "UPDATE resources SET storage_key = ?, size_bytes = ?, checksum = ?, audio_data = NULL "
+                    + "WHERE id = ? AND storage_key IS NULL";
+    private static final String NEXT_ID_BLOCKS_SQL =
+            "SELECT nextval('resources_id_seq') FROM generate_series(1, ?)";
+    private static final String INSERT_SQL =
+            "INSERT INTO resources (id, storage_key, size_bytes, checksum, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_BY_IDS_SQL =
+            "DELETE FROM resources WHERE id = ANY(?) RETURNING id, storage_key, checksum";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ResourceRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public InputStream openInlineAudio(Long id) {
+        byte[] audioData = jdbcTemplate.query(SELECT_INLINE_AUDIO_SQL,
+                resultSet -> resultSet.next() ? resultSet.getBytes(1) : null,
+                id);
+
+        return audioData == null ? InputStream.nullInputStream() : new ByteArrayInputStream(audioData);
+    }
+
+    @Override
+    public long inlineAudioSize(Long id) {
+        Long size = jdbcTemplate.query(SELECT_INLINE_AUDIO_SIZE_SQL,
+                resultSet -> resultSet.next() ? resultSet.getLong(1) : 0L,
+                id);
+
+        return size == null ? 0L : size;
+    }
+
+    @Override
+    public List<Long> findInlineAudioIds(int limit) {
+        return jdbcTemplate.queryForList(SELECT_INLINE_AUDIO_IDS_SQL, Long.class, limit);
+    }
+
+    @Override
+    public boolean markMigrated(Long id, String storageKey, long size, String checksum) {
+        return jdbcTemplate.update(MARK_MIGRATED_SQL, storageKey, size, checksum, id) > 0;
+    }
+
+    @Override
+    public List<Long> insertAll(List<Resource> resources) {
+        List<Long> ids = allocateIds(resources.size());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement preparedStatement, int i) throws SQLException {
+                Resource resource = resources.get(i);
+                preparedStatement.setLong(1, ids.get(i));
+                preparedStatement.setString(2, resource.getStorageKey());
+                preparedStatement.setLong(3, resource.getSize());
+                preparedStatement.setString(4, resource.getChecksum());
+                preparedStatement.setTimestamp(5, Timestamp.from(resource.getCreatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return resources.size();
+            }
+        });
+
+        return ids;
+    }
+
+    // Same pooled scheme as Hibernate: every nextval() reserves the ID_ALLOCATION_SIZE values ending at it.
+    private List<Long> allocateIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int blocks = (count - ids.size() + Resource.ID_ALLOCATION_SIZE - 1) / Resource.ID_ALLOCATION_SIZE;
+            for (Long blockEnd : jdbcTemplate.queryForList(NEXT_ID_BLOCKS_SQL, Long.class, blocks)) {
+                // a fresh sequence starts at 1, so its first block is shorter
+                long blockStart = Math.max(1, blockEnd - Resource.ID_ALLOCATION_SIZE + 1);
+                for (long id = blockStart; id <= blockEnd && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public List<DeletedResource> deleteAllByIdsReturning(long[] ids) {
+        return jdbcTemplate.query(DELETE_BY_IDS_SQL,
+                preparedStatement -> preparedStatement.setObject(1, ids),
+                (resultSet, rowNum) -> new DeletedResource(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3)));
+    }
+}
@@ -0,0 +1,28 @@
+package com.musicplatform.resource.repository;
+
+import com.musicplatform.resource.entity.SongMetadataOutboxEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface SongMetadataOutboxRepository extends JpaRepository<SongMetadataOutboxEntry, Long>, SongMetadataOutboxRepositoryCustom {
+
+    @Query(value = """
+            SELECT * FROM song_metadata_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED""", nativeQuery = true)
+    List<SongMetadataOutboxEntry> lockDueEntries(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SongMetadataOutboxEntry e WHERE e.resourceId IN :resourceIds")
+    int deleteByResourceIds(@Param("resourceIds") Collection<Long> resourceIds);
+}
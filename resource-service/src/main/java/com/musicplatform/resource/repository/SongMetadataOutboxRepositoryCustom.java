@@ -0,0 +1,10 @@
+package com.musicplatform.resource.repository;
+
+import com.musicplatform.resource.entity.SongMetadataOutboxEntry;
+
+import java.util.List;
+
+public interface SongMetadataOutboxRepositoryCustom {
+
+    void insertAll(List<SongMetadataOutboxEntry> entries);
+}
@@ -0,0 +1,51 @@
+package com.musicplatform.resource.repository;
+
+import com.musicplatform.resource.entity.SongMetadataOutboxEntry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+public class SongMetadataOutboxRepositoryImpl implements SongMetadataOutboxRepositoryCustom {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO song_metadata_outbox
+                (resource_id, name, artist, album, duration, year, status, attempts, next_attempt_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public SongMetadataOutboxRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<SongMetadataOutboxEntry> entries) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement preparedStatement, int i) throws SQLException {
+                SongMetadataOutboxEntry entry = entries.get(i);
+                preparedStatement.setLong(1, entry.getResourceId());
+                preparedStatement.setString(2, entry.getName());
+                preparedStatement.setString(3, entry.getArtist());
+                preparedStatement.setString(4, entry.getAlbum());
+                preparedStatement.setString(5, entry.getDuration());
+                preparedStatement.setString(6, entry.getYear());
+                preparedStatement.setString(7, entry.getStatus().name());
+                preparedStatement.setInt(8, entry.getAttempts());
+                preparedStatement.setTimestamp(9, Timestamp.from(entry.getNextAttemptAt()));
+                preparedStatement.setTimestamp(10, Timestamp.from(entry.getCreatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package com.musicplatform.resource.service;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+
+public record AudioContent(
+        Long resourceId,
+        String storageKey,
+        long size,
+        String checksum,
+        Instant lastModified,
+        Path localFile
+) {
+
+    public Optional<Path> file() {
+        return Optional.ofNullable(localFile);
+    }
+}
@@ -0,0 +1,59 @@
+package com.musicplatform.resource.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+@Component
+public class AudioSpooler {
+
+    private static final String SPOOL_FILE_PREFIX = "upload-";
+    private static final String SPOOL_FILE_SUFFIX = ".mp3";
+
+    private final Path spoolDirectory;
+    private final int chunkSize;
+    private final int sniffSize;
+    private final long maxSize;
+
+    @Autowired
+    public AudioSpooler(@Value("${resource.upload.spool-dir}") Path spoolDirectory,
+                        @Value("${resource.upload.chunk-size}") int chunkSize,
+                        @Value("${resource.upload.sniff-size}") int sniffSize,
+                        @Value("${resource.upload.max-size}") long maxSize) {
+        this.spoolDirectory = spoolDirectory;
+        this.chunkSize = chunkSize;
+        this.sniffSize = sniffSize;
+        this.maxSize = maxSize;
+    }
+
+    public SpooledAudio open(InputStream source) throws IOException {
+        InputStream bufferedSource = new BufferedInputStream(source, chunkSize);
+        byte[] head = bufferedSource.readNBytes(sniffSize);
+
+        Files.createDirectories(spoolDirectory);
+        Path spoolFile = Files.createTempFile(spoolDirectory, SPOOL_FILE_PREFIX, SPOOL_FILE_SUFFIX);
+        FileChannel channel = FileChannel.open(spoolFile, StandardOpenOption.WRITE);
+
+        return new SpooledAudio(head, bufferedSource, spoolFile, channel, chunkSize, maxSize);
+    }
+
+    // Takes ownership of a file that already holds the complete upload; it is deleted when the result is closed.
+    public SpooledAudio adopt(Path audioFile) throws IOException {
+        InputStream source = new BufferedInputStream(Files.newInputStream(audioFile), chunkSize);
+        try {
+            byte[] head = source.readNBytes(sniffSize);
+            return new SpooledAudio(head, source, audioFile, null, chunkSize, maxSize);
+        } catch (IOException | RuntimeException e) {
+            source.close();
+            throw e;
+        }
+    }
+}
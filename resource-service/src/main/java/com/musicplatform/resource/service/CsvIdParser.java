@@ -0,0 +1,65 @@
+package com.musicplatform.resource.service;
+
+final class CsvIdParser {
+
+    private CsvIdParser() {
+    }
+
+    static long[] parse(String csvIds, int maxLength) {
+        if (csvIds.length() > maxLength) {
+            throw new IllegalArgumentException(String.format(
+                    "CSV string is too long: received %s characters, maximum allowed is %s", csvIds.length(), maxLength));
+        }
+
+        long[] ids = new long[countTokens(csvIds)];
+        int count = 0;
+        int tokenStart = 0;
+
+        for (int i = 0; i <= csvIds.length(); i++) {
+            if (i == csvIds.length() || csvIds.charAt(i) == ',') {
+                ids[count++] = parseId(csvIds, tokenStart, i);
+                tokenStart = i + 1;
+            }
+        }
+
+        return ids;
+    }
+
+    private static int countTokens(String csvIds) {
+        int tokens = 1;
+        for (int i = 0; i < csvIds.length(); i++) {
+            if (csvIds.charAt(i) == ',') {
+                tokens++;
+            }
+        }
+        return tokens;
+    }
+
+    private static long parseId(String csvIds, int start, int end) {
+        while (start < end && Character.isWhitespace(csvIds.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(csvIds.charAt(end - 1))) {
+            end--;
+        }
+
+        long id = 0;
+        for (int i = start; i < end; i++) {
+            int digit = csvIds.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || id > (Long.MAX_VALUE - digit) / 10) {
+                throw invalidId(csvIds, start, end);
+            }
+            id = id * 10 + digit;
+        }
+
+        if (id == 0) {
+            throw invalidId(csvIds, start, end);
+        }
+        return id;
+    }
+
+    private static IllegalArgumentException invalidId(String csvIds, int start, int end) {
+        return new IllegalArgumentException(String.format(
+                "Invalid ID format: '%s'. Only positive integers are allowed", csvIds.substring(start, end)));
+    }
+}
@@ -1,185 +1,528 @@
 package com.musicplatform.resource.service;
 
 import com.musicplatform.resource.client.SongServiceClient;
+import com.musicplatform.resource.dto.BulkIngestItemResult;
 import com.musicplatform.resource.dto.CreateResourceResponse;
 import com.musicplatform.resource.dto.DeleteResourceResponse;
+import com.musicplatform.resource.dto.SongMetadataRequest;
+import com.musicplatform.resource.entity.AudioBlob;
 import com.musicplatform.resource.entity.Resource;
-import com.musicplatform.resource.exception.InvalidResourceException;
+import com.musicplatform.resource.entity.ResourceFingerprint;
+import com.musicplatform.resource.entity.SongMetadataOutboxEntry;
 import com.musicplatform.resource.exception.DataProcessingException;
 import com.musicplatform.resource.exception.ResourceNotFoundException;
+import com.musicplatform.resource.fingerprint.AudioFingerprint;
+import com.musicplatform.resource.fingerprint.AudioFingerprintService;
+import com.musicplatform.resource.ingest.IngestedAudio;
+import com.musicplatform.resource.metadata.Mp3MetadataExtractor;
+import com.musicplatform.resource.metadata.SongMetadataValidator;
+import com.musicplatform.resource.metrics.IngestMetrics;
+import com.musicplatform.resource.metrics.IngestSource;
+import com.musicplatform.resource.metrics.IngestStage;
+import com.musicplatform.resource.repository.AudioBlobRepository;
+import com.musicplatform.resource.repository.DeletedResource;
 import com.musicplatform.resource.repository.ResourceRepository;
-import org.apache.tika.Tika;
-import org.apache.tika.exception.TikaException;
-import org.apache.tika.metadata.Metadata;
-import org.apache.tika.parser.ParseContext;
-import org.apache.tika.parser.mp3.Mp3Parser;
-import org.apache.tika.sax.BodyContentHandler;
+import com.musicplatform.resource.repository.SongMetadataOutboxRepository;
+import com.musicplatform.resource.storage.BlobStore;
+import com.musicplatform.resource.storage.HotBlobCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.xml.sax.SAXException;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Supplier;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 public class ResourceService {
 
     private static final Logger logger = LoggerFactory.getLogger(ResourceService.class);
-    private static final String AUDIO_MPEG_MEDIA_TYPE = "audio/mpeg";
-    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+    private static final String READS_METER = "resource.reads";
 
     private final ResourceRepository resourceRepository;
+    private final AudioBlobRepository audioBlobRepository;
     private final SongServiceClient songServiceClient;
+    private final AudioSpooler audioSpooler;
+    private final Mp3MetadataExtractor mp3MetadataExtractor;
+    private final SongMetadataValidator songMetadataValidator;
+    private final BlobStore blobStore;
+    private final HotBlobCache hotBlobCache;
+    private final SongMetadataOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final IngestMetrics ingestMetrics;
+    private final AudioFingerprintService audioFingerprintService;
+    private final SingleFlight<Long, AudioContent> reads;
+    private final boolean outboxEnabled;
+    private final int maxDeleteCsvLength;
+    private final int deleteChunkSize;
 
     @Autowired
     public ResourceService(ResourceRepository resourceRepository,
-                           SongServiceClient songServiceClient) {
+                           AudioBlobRepository audioBlobRepository,
+                           SongServiceClient songServiceClient,
+                           AudioSpooler audioSpooler,
+                           Mp3MetadataExtractor mp3MetadataExtractor,
+                           SongMetadataValidator songMetadataValidator,
+                           BlobStore blobStore,
+                           HotBlobCache hotBlobCache,
+                           SongMetadataOutboxRepository outboxRepository,
+                           TransactionTemplate transactionTemplate,
+                           IngestMetrics ingestMetrics,
+                           AudioFingerprintService audioFingerprintService,
+                           MeterRegistry meterRegistry,
+                           @Value("${resource.song-metadata.outbox-enabled}") boolean outboxEnabled,
+                           @Value("${resource.deletion.max-csv-length}") int maxDeleteCsvLength,
+                           @Value("${resource.deletion.chunk-size}") int deleteChunkSize) {
         this.resourceRepository = resourceRepository;
+        this.audioBlobRepository = audioBlobRepository;
         this.songServiceClient = songServiceClient;
+        this.audioSpooler = audioSpooler;
+        this.mp3MetadataExtractor = mp3MetadataExtractor;
+        this.songMetadataValidator = songMetadataValidator;
+        this.blobStore = blobStore;
+        this.hotBlobCache = hotBlobCache;
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.ingestMetrics = ingestMetrics;
+        this.audioFingerprintService = audioFingerprintService;
+        this.reads = new SingleFlight<>(meterRegistry, READS_METER,
+                "Resource lookups by whether they ran their own query or joined one already in flight");
+        this.outboxEnabled = outboxEnabled;
+        this.maxDeleteCsvLength = maxDeleteCsvLength;
+        this.deleteChunkSize = deleteChunkSize;
     }
 
-    public CreateResourceResponse create(byte[] audioData) {
-        validateAudio(audioData);
+    public CreateResourceResponse create(InputStream audioStream) {
+        try (SpooledAudio spooledAudio = audioSpooler.open(audioStream)) {
+            return create(spooledAudio);
+        } catch (IOException e) {
+            throw new DataProcessingException("Failed to read uploaded MP3 data", e);
+        }
+    }
+
+    // Consumes the file: it is deleted once its content is stored, whatever the outcome.
+    public CreateResourceResponse create(Path stagedAudio) {
+        try (SpooledAudio spooledAudio = audioSpooler.adopt(stagedAudio)) {
+            return create(spooledAudio);
+        } catch (IOException e) {
+            throw new DataProcessingException("Failed to read staged MP3 data", e);
+        }
+    }
+
+    private CreateResourceResponse create(SpooledAudio spooledAudio) throws IOException {
+        ingestMetrics.time(IngestStage.VALIDATION, () -> mp3MetadataExtractor.validate(spooledAudio.head()));
+
+        ingestMetrics.time(IngestStage.SPOOL, spooledAudio::drain);
+        ingestMetrics.recordPayloadSize(IngestSource.UPLOAD, spooledAudio.size());
+        CompletableFuture<Optional<AudioFingerprint>> fingerprint =
+                audioFingerprintService.fingerprintAsync(spooledAudio.checksum(), spooledAudio.path());
 
-        Long savedResourceId = resourceRepository.save(new Resource(audioData)).getId();
-        logger.info("Created resource with ID: {}", savedResourceId);
-        Map<String, String> songMetadata = extractSongMetadata(audioData);
+        Optional<AudioBlob> storedBlob = audioBlobRepository.findById(spooledAudio.checksum())
+                .filter(AudioBlob::hasMetadata);
+        storedBlob.ifPresent(blob -> songMetadataValidator.validate(blob.songMetadata()));
+        Optional<Resource> duplicate = storedBlob.flatMap(this::persistDuplicate);
 
+        Resource savedResource;
+        Map<String, String> songMetadata;
+        if (duplicate.isPresent()) {
+            ingestMetrics.recordDeduplicated(IngestSource.UPLOAD);
+            savedResource = duplicate.get();
+            songMetadata = storedBlob.get().songMetadata();
+        } else {
+            songMetadata = ingestMetrics.time(IngestStage.EXTRACTION,
+                    () -> mp3MetadataExtractor.extract(spooledAudio.path()));
+            songMetadataValidator.validate(songMetadata);
+            String storageKey = ingestMetrics.time(IngestStage.STORAGE,
+                    () -> blobStore.put(spooledAudio.path(), spooledAudio.checksum()));
+            savedResource = persist(
+                    new Resource(storageKey, spooledAudio.size(), spooledAudio.checksum()), songMetadata, spooledAudio.path());
+        }
+        logger.info("Created resource with ID: {} ({} bytes stored as {}{})", savedResource.getId(),
+                spooledAudio.size(), savedResource.getStorageKey(), duplicate.isPresent() ? ", deduplicated" : "");
+
+        if (!outboxEnabled) {
+            saveSongMetadata(savedResource, songMetadata);
+        }
+
+        Optional<Long> likelyDuplicateOf = ingestMetrics.time(IngestStage.FINGERPRINT,
+                () -> audioFingerprintService.register(savedResource.getId(), spooledAudio.checksum(), fingerprint));
+        return new CreateResourceResponse(savedResource.getId(), likelyDuplicateOf.orElse(null));
+    }
+
+    public List<BulkIngestItemResult> createAll(List<IngestedAudio> ingestedAudios) {
+        PersistedBatch persistedBatch;
         try {
-            songServiceClient.saveSongMetadata(savedResourceId, songMetadata);
-            return new CreateResourceResponse(savedResourceId);
+            persistedBatch = ingestMetrics.time(IngestStage.PERSISTENCE,
+                    () -> transactionTemplate.execute(status -> persistBatch(ingestedAudios)));
+        } catch (RuntimeException e) {
+            logger.error("Failed to persist bulk ingest batch of {} resources", ingestedAudios.size(), e);
+            ingestMetrics.time(IngestStage.COMPENSATION, () -> discard(ingestedAudios));
+            return ingestedAudios.stream()
+                    .map(audio -> BulkIngestItemResult.failed(audio.index(), audio.name(), "Failed to save resource"))
+                    .toList();
+        }
+
+        List<IngestedAudio> persistedAudios = persistedBatch.audios();
+        List<Long> resourceIds = persistedBatch.resourceIds();
+        Map<Long, String> rejected = outboxEnabled
+                ? Map.of()
+                : saveSongMetadataBatch(resourceIds, persistedAudios);
+
+        Map<Long, Long> likelyDuplicates = audioFingerprintService.registerAll(IntStream.range(0, persistedAudios.size())
+                .filter(i -> persistedAudios.get(i).fingerprint() != null && !rejected.containsKey(resourceIds.get(i)))
+                .mapToObj(i -> new ResourceFingerprint(resourceIds.get(i), persistedAudios.get(i).checksum(),
+                        persistedAudios.get(i).fingerprint()))
+                .toList());
+
+        List<BulkIngestItemResult> results = new ArrayList<>(ingestedAudios.size());
+        for (int i = 0; i < persistedAudios.size(); i++) {
+            IngestedAudio audio = persistedAudios.get(i);
+            Long resourceId = resourceIds.get(i);
+            results.add(rejected.containsKey(resourceId)
+                    ? BulkIngestItemResult.failed(audio.index(), audio.name(), rejected.get(resourceId))
+                    : BulkIngestItemResult.created(audio.index(), audio.name(), resourceId, likelyDuplicates.get(resourceId)));
+        }
+        ingestedAudios.stream()
+                .filter(audio -> !persistedAudios.contains(audio))
+                .map(audio -> BulkIngestItemResult.failed(audio.index(), audio.name(),
+                        "Stored audio was deleted while ingesting, upload it again"))
+                .forEach(results::add);
+
+        logger.info("Created {} resources from bulk ingest batch of {}",
+                persistedAudios.size() - rejected.size(), ingestedAudios.size());
+        return results;
+    }
+
+    // Items whose blob was released after the worker stored or looked it up are left out of the batch: their spool
+    // files are gone, so unlike a single upload the blob cannot be stored again.
+    private PersistedBatch persistBatch(List<IngestedAudio> ingestedAudios) {
+        audioBlobRepository.lockStorageKeys(ingestedAudios.stream().map(IngestedAudio::storageKey).toList());
+        Set<String> retained = audioBlobRepository.retainAll(ingestedAudios.stream()
+                .filter(IngestedAudio::deduplicated)
+                .map(IngestedAudio::checksum)
+                .toList());
+        List<IngestedAudio> persistedAudios = ingestedAudios.stream()
+                .filter(audio -> audio.deduplicated()
+                        ? retained.contains(audio.checksum())
+                        : blobStore.exists(audio.storageKey()))
+                .toList();
+
+        audioBlobRepository.registerAll(persistedAudios.stream()
+                .filter(audio -> !audio.deduplicated())
+                .map(audio -> new AudioBlob(audio.checksum(), audio.storageKey(), audio.size(), audio.songMetadata()))
+                .toList());
+        List<Long> insertedIds = resourceRepository.insertAll(persistedAudios.stream()
+                .map(audio -> new Resource(audio.storageKey(), audio.size(), audio.checksum()))
+                .toList());
+        if (outboxEnabled) {
+            outboxRepository.insertAll(IntStream.range(0, insertedIds.size())
+                    .mapToObj(i -> new SongMetadataOutboxEntry(insertedIds.get(i), persistedAudios.get(i).songMetadata()))
+                    .toList());
+        }
+        return new PersistedBatch(persistedAudios, insertedIds);
+    }
+
+    public void discard(List<IngestedAudio> ingestedAudios) {
+        releaseBlobs(ingestedAudios.stream()
+                .filter(audio -> !audio.deduplicated())
+                .map(IngestedAudio::storageKey)
+                .toList());
+    }
+
+    private Map<Long, String> saveSongMetadataBatch(List<Long> resourceIds, List<IngestedAudio> ingestedAudios) {
+        List<SongMetadataRequest> songMetadataRequests = IntStream.range(0, resourceIds.size())
+                .mapToObj(i -> toSongMetadataRequest(resourceIds.get(i), ingestedAudios.get(i).songMetadata()))
+                .toList();
+
+        Map<Long, String> rejected;
+        try {
+            rejected = ingestMetrics.time(IngestStage.SONG_SERVICE,
+                    () -> songServiceClient.saveSongMetadataBatch(songMetadataRequests)).rejected();
+        } catch (DataProcessingException e) {
+            rejected = resourceIds.stream()
+                    .collect(Collectors.toMap(Function.identity(),
+                            resourceId -> "Failed to save song metadata: " + e.getMessage()));
+        }
+
+        if (!rejected.isEmpty()) {
+            long[] rejectedIds = rejected.keySet().stream().mapToLong(Long::longValue).toArray();
+            ingestMetrics.time(IngestStage.COMPENSATION,
+                    () -> releaseBlobs(deleteResources(rejectedIds).unreferencedStorageKeys()));
+        }
+
+        return rejected;
+    }
+
+    private SongMetadataRequest toSongMetadataRequest(Long resourceId, Map<String, String> songMetadata) {
+        return new SongMetadataRequest(
+                resourceId,
+                songMetadata.get("name"),
+                songMetadata.get("artist"),
+                songMetadata.get("album"),
+                songMetadata.get("duration"),
+                songMetadata.get("year"));
+    }
+
+    private Resource persist(Resource resource, Map<String, String> songMetadata, Path audioFile) {
+        try {
+            return ingestMetrics.time(IngestStage.PERSISTENCE, () -> transactionTemplate.execute(status -> {
+                audioBlobRepository.lockStorageKeys(List.of(resource.getStorageKey()));
+                audioBlobRepository.registerAll(List.of(new AudioBlob(
+                        resource.getChecksum(), resource.getStorageKey(), resource.getSize(), songMetadata)));
+                restoreIfReleased(resource.getStorageKey(), audioFile, resource.getChecksum());
+                return saveWithOutbox(resource, songMetadata);
+            }));
+        } catch (RuntimeException e) {
+            ingestMetrics.time(IngestStage.COMPENSATION, () -> releaseBlobs(List.of(resource.getStorageKey())));
+            throw e;
+        }
+    }
+
+    // Empty when a concurrent delete dropped the blob's last reference after the lookup; the upload is then stored anew.
+    private Optional<Resource> persistDuplicate(AudioBlob storedBlob) {
+        Resource resource = new Resource(storedBlob.getStorageKey(), storedBlob.getSize(), storedBlob.getChecksum());
+        return Optional.ofNullable(ingestMetrics.time(IngestStage.PERSISTENCE, () -> transactionTemplate.execute(status ->
+                audioBlobRepository.retainAll(List.of(storedBlob.getChecksum())).isEmpty()
+                        ? null
+                        : saveWithOutbox(resource, storedBlob.songMetadata()))));
+    }
+
+    // Runs under the blob lock once the blob is registered: a release between the put, which skips content that is
+    // already stored, and the registration may have deleted it, and no release can delete it after this commits.
+    private void restoreIfReleased(String storageKey, Path audioFile, String checksum) {
+        if (!blobStore.exists(storageKey)) {
+            logger.warn("Blob {} was released while its upload was being stored, storing it again", storageKey);
+            blobStore.put(audioFile, checksum);
+        }
+    }
+
+    private Resource saveWithOutbox(Resource resource, Map<String, String> songMetadata) {
+        Resource savedResource = resourceRepository.save(resource);
+        if (outboxEnabled) {
+            outboxRepository.insertAll(List.of(new SongMetadataOutboxEntry(savedResource.getId(), songMetadata)));
+        }
+        return savedResource;
+    }
+
+    private void saveSongMetadata(Resource savedResource, Map<String, String> songMetadata) {
+        try {
+            ingestMetrics.time(IngestStage.SONG_SERVICE,
+                    () -> songServiceClient.saveSongMetadata(savedResource.getId(), songMetadata));
         } catch (DataProcessingException dataProcessingException) {
-            resourceRepository.deleteById(savedResourceId);
-            logger.info("Deleted recently created resource with id: {}", savedResourceId);
+            ingestMetrics.time(IngestStage.COMPENSATION, () -> delete(savedResource));
+            logger.info("Deleted recently created resource with id: {}", savedResource.getId());
 
             throw new DataProcessingException(
                     "Failed to save resource for the following reason: " + dataProcessingException.getMessage());
         }
     }
 
-    public byte[] getById(Long id) {
+    public AudioContent getById(Long id) {
         if (id <= 0) {
             throw new IllegalArgumentException(String.format("Invalid value '%s' for ID. Must be a positive integer", id));
         }
 
+        return reads.execute(id, this::findAudioContent);
+    }
+
+    public void transferTo(AudioContent content, long offset, long length, OutputStream outputStream) throws IOException {
+        Optional<Path> localFile = content.file();
+        if (localFile.isPresent()) {
+            transferFile(localFile.get(), offset, length, outputStream);
+            return;
+        }
+
+        Optional<ByteBuffer> cachedAudio = cachedAudio(content);
+        if (cachedAudio.isPresent()) {
+            transferBuffer(cachedAudio.get(), offset, length, outputStream);
+            return;
+        }
+
+        try (InputStream audioStream = openAudio(content, offset, length)) {
+            copy(audioStream, length, outputStream);
+        }
+    }
+
+    private AudioContent findAudioContent(Long id) {
         return resourceRepository.findById(id)
-                .map(Resource::getAudioData)
-                .filter(data -> data.length > 0)
+                .map(this::toAudioContent)
+                .filter(content -> content.size() > 0)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Resource with ID=" + id + " not found"));
     }
 
-    public DeleteResourceResponse deleteAllByIds(String csvIds) {
-        if (csvIds.length() >= 200) {
-            throw new IllegalArgumentException(String.format("CSV string is too long: received %s characters, maximum allowed is 200", csvIds.length()));
+    private AudioContent toAudioContent(Resource resource) {
+        String storageKey = resource.getStorageKey();
+        if (storageKey == null) {
+            return new AudioContent(resource.getId(), null, resourceRepository.inlineAudioSize(resource.getId()),
+                    null, resource.getCreatedAt(), null);
         }
 
-        String[] idStrings = csvIds.split(",");
-        List<Long> deletedIds = new ArrayList<>();
-        Long idForDeletion;
+        return new AudioContent(resource.getId(), storageKey, resource.getSize(), resource.getChecksum(),
+                resource.getCreatedAt(), blobStore.localPath(storageKey).orElse(null));
+    }
+
+    // Local files are already served by sendfile out of the page cache, so only remote blobs are worth holding.
+    private Optional<ByteBuffer> cachedAudio(AudioContent content) throws IOException {
+        String storageKey = content.storageKey();
+        if (storageKey == null) {
+            return Optional.empty();
+        }
+
+        Optional<ByteBuffer> cachedAudio = hotBlobCache.get(storageKey);
+        return cachedAudio.isPresent()
+                ? cachedAudio
+                : hotBlobCache.load(storageKey, content.size(), () -> blobStore.open(storageKey));
+    }
 
-        for (String idString : idStrings) {
-            String idStr = idString.trim();
+    private InputStream openAudio(AudioContent content, long offset, long length) throws IOException {
+        if (content.storageKey() != null) {
+            return blobStore.open(content.storageKey(), offset, length);
+        }
 
-            try {
-                idForDeletion = Long.parseLong(idStr);
+        InputStream inlineAudio = resourceRepository.openInlineAudio(content.resourceId());
+        inlineAudio.skipNBytes(offset);
+        return inlineAudio;
+    }
 
-                if (resourceRepository.existsById(idForDeletion)) {
-                    resourceRepository.deleteById(idForDeletion);
-                    logger.info("Deleted resource with ID: {}", idForDeletion);
+    private void transferFile(Path file, long offset, long length, OutputStream outputStream) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long position = offset;
+            long remaining = length;
 
-                    deletedIds.add(idForDeletion);
-                } else {
-                    logger.warn("Resource with ID {} not found for deletion", idForDeletion);
+            while (remaining > 0) {
+                long transferred = fileChannel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    throw new EOFException("Audio file " + file + " ended before offset " + (offset + length));
                 }
-            } catch (NumberFormatException e) {
-                throw new IllegalArgumentException(String.format("Invalid ID format: '%s'. Only positive integers are allowed", idStr));
+                position += transferred;
+                remaining -= transferred;
             }
         }
+    }
 
-        songServiceClient.deleteAllSongMetadataByIds(csvIds);
+    private void transferBuffer(ByteBuffer audio, long offset, long length, OutputStream outputStream) throws IOException {
+        ByteBuffer range = audio.limit((int) (offset + length)).position((int) offset);
+        WritableByteChannel target = Channels.newChannel(outputStream);
 
-        return new DeleteResourceResponse(deletedIds);
+        while (range.hasRemaining()) {
+            target.write(range);
+        }
     }
 
-    private boolean isAudioMpegMediaType(byte[] mp3Data) {
-        try (ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(mp3Data)) {
-            String mediaType = new Tika().detect(byteArrayInputStream);
-            return AUDIO_MPEG_MEDIA_TYPE.equalsIgnoreCase(mediaType);
-        } catch (IOException e) {
-            logger.error("Error while detecting MP3 data", e);
-            return false;
+    private void copy(InputStream audioStream, long length, OutputStream outputStream) throws IOException {
+        byte[] buffer = new byte[TRANSFER_BUFFER_SIZE];
+        long remaining = length;
+
+        while (remaining > 0) {
+            int read = audioStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read == -1) {
+                throw new EOFException("Audio stream ended " + remaining + " bytes early");
+            }
+            outputStream.write(buffer, 0, read);
+            remaining -= read;
         }
     }
 
-    public Map<String, String> extractSongMetadata(byte[] audioData) {
-        Map<String, String> metadataMap = new HashMap<>();
+    private void delete(Resource resource) {
+        DeletedBatch deletedBatch = deleteResources(new long[]{resource.getId()});
+        releaseBlobs(deletedBatch.unreferencedStorageKeys());
+        audioFingerprintService.unindex(deletedBatch.fingerprints());
+    }
 
-        try (ByteArrayInputStream inputStream = new ByteArrayInputStream(audioData)) {
-            BodyContentHandler handler = new BodyContentHandler();
-            Metadata metadata = new Metadata();
-            ParseContext parseContext = new ParseContext();
-            Mp3Parser mp3Parser = new Mp3Parser();
-            mp3Parser.parse(inputStream, handler, metadata, parseContext);
+    public DeleteResourceResponse deleteAllByIds(String csvIds) {
+        long[] ids = CsvIdParser.parse(csvIds, maxDeleteCsvLength);
+        Set<Long> deletedIds = new HashSet<>();
 
-            metadataMap.put("name", metadata.get("dc:title"));
-            metadataMap.put("artist", metadata.get("xmpDM:artist"));
-            metadataMap.put("album", metadata.get("xmpDM:album"));
-            metadataMap.put("duration", formatAsMinutesAndSeconds(metadata.get("xmpDM:duration")));
-            metadataMap.put("year", extractYear(metadata.get("xmpDM:releaseDate")));
+        for (int from = 0; from < ids.length; from += deleteChunkSize) {
+            long[] chunk = Arrays.copyOfRange(ids, from, Math.min(ids.length, from + deleteChunkSize));
 
-            logger.info("Successfully extracted MP3 metadata: {}", metadataMap);
+            DeletedBatch deletedBatch = deleteResources(chunk);
 
-            return metadataMap;
-        } catch (IOException | SAXException | TikaException e) {
-            throw new DataProcessingException("Failed to extract MP3 metadata", e);
-        }
-    }
+            releaseBlobs(deletedBatch.unreferencedStorageKeys());
+            audioFingerprintService.unindex(deletedBatch.fingerprints());
+            deletedBatch.resources().forEach(deletedResource -> deletedIds.add(deletedResource.id()));
 
-    private String formatAsMinutesAndSeconds(String durationStr) {
-        if (durationStr == null) {
-            return null;
+            songServiceClient.deleteAllSongMetadataByIds(Arrays.stream(chunk)
+                    .mapToObj(Long::toString)
+                    .collect(Collectors.joining(",")));
         }
 
-        try {
-            double totalSecondsDouble = Double.parseDouble(durationStr);
-            int totalSeconds = (int) totalSecondsDouble;
-            int minutes = totalSeconds / SECONDS_PER_MINUTE;
-            int seconds = totalSeconds % SECONDS_PER_MINUTE;
-            return String.format("%02d:%02d", minutes, seconds);
-        } catch (NumberFormatException e) {
-            return null;
-        }
-    }
+        logger.info("Deleted {} of {} requested resources", deletedIds.size(), ids.length);
 
-    private void validateAudio(byte[] audioData) {
-        Map<Supplier<Boolean>, String> checks = Map.of(
-                () -> audioData == null || audioData.length == 0, "MP3 data is empty",
-                () -> !isAudioMpegMediaType(audioData), "Invalid MP3 data. Expected audio/mpeg media type");
+        return new DeleteResourceResponse(Arrays.stream(ids)
+                .filter(deletedIds::contains)
+                .distinct()
+                .boxed()
+                .toList());
+    }
 
-        checks.forEach((condition, message) -> {
-            if (Boolean.TRUE.equals(condition.get())) {
-                logger.warn("Validation failed: {}", message);
-                throw new InvalidResourceException(message);
+    // Blobs and index entries are only dropped once the transaction that deleted their resources has committed.
+    private DeletedBatch deleteResources(long[] ids) {
+        return transactionTemplate.execute(status -> {
+            List<ResourceFingerprint> fingerprints = audioFingerprintService.deleteAll(ids);
+            List<DeletedResource> deleted = resourceRepository.deleteAllByIdsReturning(ids);
+            if (deleted.isEmpty()) {
+                return new DeletedBatch(deleted, List.of(), fingerprints);
             }
+
+            outboxRepository.deleteByResourceIds(deleted.stream().map(DeletedResource::id).toList());
+            return new DeletedBatch(deleted,
+                    audioBlobRepository.releaseAll(deleted.stream().map(DeletedResource::checksum).toList()),
+                    fingerprints);
         });
     }
 
-    private String extractYear(String releaseDate) {
-        if (releaseDate == null) {
-            return null;
+    private void releaseBlobs(List<String> storageKeys) {
+        Set<String> candidates = storageKeys.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (candidates.isEmpty()) {
+            return;
         }
-        Pattern yearPattern = Pattern.compile("\\b(19\\d{2}|20\\d{2})\\b");
-        Matcher matcher = yearPattern.matcher(releaseDate);
-        return matcher.find() ? matcher.group(1) : null;
+
+        // Registrations take the same locks, so none can commit between the reference check and the delete.
+        transactionTemplate.executeWithoutResult(status -> {
+            audioBlobRepository.lockStorageKeys(candidates);
+            Set<String> stillReferenced = audioBlobRepository.findReferencedStorageKeys(candidates);
+            candidates.stream()
+                    .filter(storageKey -> !stillReferenced.contains(storageKey))
+                    .forEach(storageKey -> {
+                        hotBlobCache.invalidate(storageKey);
+                        blobStore.delete(storageKey);
+                    });
+        });
+    }
+
+    private record PersistedBatch(List<IngestedAudio> audios, List<Long> resourceIds) {
+    }
+
+    private record DeletedBatch(List<DeletedResource> resources, List<String> unreferencedStorageKeys,
+                                List<ResourceFingerprint> fingerprints) {
     }
 }
@@ -0,0 +1,66 @@
+package com.musicplatform.resource.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+// Concurrent calls for the same key wait on the first caller's load instead of each running their own. Nothing is
+// kept once that load completes, so bursts are flattened without ever serving a stale result.
+final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter loaded;
+    private final Counter coalesced;
+
+    SingleFlight(MeterRegistry meterRegistry, String meterName, String description) {
+        this.loaded = Counter.builder(meterName)
+                .description(description)
+                .tag("outcome", "loaded")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder(meterName)
+                .description(description)
+                .tag("outcome", "coalesced")
+                .register(meterRegistry);
+    }
+
+    V execute(K key, Function<K, V> loader) {
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, load);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        loaded.increment();
+        try {
+            V value = loader.apply(key);
+            load.complete(value);
+            return value;
+        } catch (Throwable t) {
+            // errors too, otherwise the waiters joined on this load would block forever
+            load.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
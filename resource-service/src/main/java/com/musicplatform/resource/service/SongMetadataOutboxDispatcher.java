@@ -0,0 +1,148 @@
+package com.musicplatform.resource.service;
+
+import com.musicplatform.resource.client.SongServiceClient;
+import com.musicplatform.resource.dto.CreateSongBatchResponse;
+import com.musicplatform.resource.dto.SongMetadataRequest;
+import com.musicplatform.resource.entity.SongMetadataOutboxEntry;
+import com.musicplatform.resource.exception.DataProcessingException;
+import com.musicplatform.resource.repository.SongMetadataOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "resource.song-metadata.outbox-enabled", havingValue = "true", matchIfMissing = true)
+public class SongMetadataOutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(SongMetadataOutboxDispatcher.class);
+
+    private final SongMetadataOutboxRepository outboxRepository;
+    private final SongServiceClient songServiceClient;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    @Autowired
+    public SongMetadataOutboxDispatcher(SongMetadataOutboxRepository outboxRepository,
+                                        SongServiceClient songServiceClient,
+                                        TransactionTemplate transactionTemplate,
+                                        @Value("${resource.song-metadata.dispatcher.batch-size}") int batchSize,
+                                        @Value("${resource.song-metadata.dispatcher.lease}") Duration lease,
+                                        @Value("${resource.song-metadata.dispatcher.initial-backoff}") Duration initialBackoff,
+                                        @Value("${resource.song-metadata.dispatcher.max-backoff}") Duration maxBackoff) {
+        this.outboxRepository = outboxRepository;
+        this.songServiceClient = songServiceClient;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Scheduled(fixedDelayString = "${resource.song-metadata.dispatcher.interval}")
+    public void dispatch() {
+        List<SongMetadataOutboxEntry> batch;
+        do {
+            batch = transactionTemplate.execute(status -> claimDueEntries());
+            if (batch != null && !batch.isEmpty()) {
+                send(batch);
+            }
+        } while (batch != null && batch.size() == batchSize);
+    }
+
+    private List<SongMetadataOutboxEntry> claimDueEntries() {
+        Instant now = Instant.now();
+        List<SongMetadataOutboxEntry> dueEntries = outboxRepository.lockDueEntries(now, batchSize);
+        dueEntries.forEach(entry -> entry.claim(now.plus(lease)));
+        return dueEntries;
+    }
+
+    private void send(List<SongMetadataOutboxEntry> batch) {
+        List<SongMetadataRequest> songMetadataRequests = batch.stream()
+                .map(this::toRequest)
+                .toList();
+
+        try {
+            CreateSongBatchResponse response = songServiceClient.saveSongMetadataBatch(songMetadataRequests);
+            List<Long> orphanedIds = transactionTemplate.execute(status -> complete(response));
+            removeOrphanedSongMetadata(orphanedIds);
+        } catch (DataProcessingException | RestClientException e) {
+            logger.warn("Failed to dispatch metadata batch of {} songs, will retry: {}", batch.size(), e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> reschedule(batch, e.getMessage()));
+        }
+    }
+
+    private List<Long> complete(CreateSongBatchResponse response) {
+        List<Long> acceptedIds = new ArrayList<>(response.created());
+        acceptedIds.addAll(response.existing());
+
+        Set<Long> pendingIds = outboxRepository.findAllById(acceptedIds)
+                .stream()
+                .map(SongMetadataOutboxEntry::getResourceId)
+                .collect(Collectors.toCollection(HashSet::new));
+        if (!pendingIds.isEmpty()) {
+            outboxRepository.deleteByResourceIds(pendingIds);
+        }
+
+        outboxRepository.findAllById(response.rejected().keySet())
+                .forEach(entry -> entry.reject(response.rejected().get(entry.getResourceId())));
+
+        return response.created()
+                .stream()
+                .filter(id -> !pendingIds.contains(id))
+                .toList();
+    }
+
+    private void removeOrphanedSongMetadata(List<Long> orphanedIds) {
+        if (orphanedIds == null || orphanedIds.isEmpty()) {
+            return;
+        }
+
+        logger.info("Removing song metadata of resources deleted while dispatching: {}", orphanedIds);
+        try {
+            songServiceClient.deleteAllSongMetadataByIds(orphanedIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",")));
+        } catch (DataProcessingException | RestClientException e) {
+            logger.warn("Failed to remove orphaned song metadata {}: {}", orphanedIds, e.getMessage());
+        }
+    }
+
+    private void reschedule(List<SongMetadataOutboxEntry> batch, String error) {
+        Instant now = Instant.now();
+        outboxRepository.findAllById(batch.stream().map(SongMetadataOutboxEntry::getResourceId).toList())
+                .forEach(entry -> entry.retryAt(now.plus(backoff(entry.getAttempts())), error));
+    }
+
+    private Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration backoff = initialBackoff.multipliedBy(1L << exponent);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private SongMetadataRequest toRequest(SongMetadataOutboxEntry entry) {
+        return new SongMetadataRequest(
+                entry.getResourceId(),
+                entry.getName(),
+                entry.getArtist(),
+                entry.getAlbum(),
+                entry.getDuration(),
+                entry.getYear());
+    }
+}
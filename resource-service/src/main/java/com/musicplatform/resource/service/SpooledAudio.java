@@ -0,0 +1,138 @@
+package com.musicplatform.resource.service;
+
+import com.musicplatform.resource.exception.InvalidResourceException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public class SpooledAudio implements AutoCloseable {
+
+    private static final String CHECKSUM_ALGORITHM = "SHA-256";
+
+    private final byte[] head;
+    private final Path path;
+    private final FileChannel channel;
+    private final InputStream teeStream;
+    private final int chunkSize;
+    private final long maxSize;
+    private final MessageDigest digest;
+    private long size;
+    private String checksum;
+
+    SpooledAudio(byte[] head, InputStream remainder, Path path, FileChannel channel, int chunkSize, long maxSize) {
+        this.head = head;
+        this.path = path;
+        this.channel = channel;
+        this.chunkSize = chunkSize;
+        this.maxSize = maxSize;
+        this.digest = newSha256Digest();
+        this.teeStream = new TeeInputStream(new SequenceInputStream(new ByteArrayInputStream(head), remainder));
+    }
+
+    public byte[] head() {
+        return head;
+    }
+
+    public void drain() throws IOException {
+        byte[] chunk = new byte[chunkSize];
+        while (teeStream.read(chunk) != -1) {
+            // every chunk read is written through to the spool file
+        }
+        if (channel != null) {
+            channel.force(false);
+        }
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public String checksum() {
+        if (checksum == null) {
+            checksum = HexFormat.of().formatHex(digest.digest());
+        }
+        return checksum;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            // The source of a spooled upload belongs to the caller; an adopted file's stream is ours to close.
+            if (channel != null) {
+                channel.close();
+            } else {
+                teeStream.close();
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private void spool(byte[] buffer, int offset, int length) throws IOException {
+        if (size + length > maxSize) {
+            throw new InvalidResourceException(
+                    String.format("MP3 data is too large: maximum allowed size is %s bytes", maxSize));
+        }
+
+        digest.update(buffer, offset, length);
+        // Without a channel the audio is already at path, so draining only measures and hashes it.
+        if (channel != null) {
+            ByteBuffer chunk = ByteBuffer.wrap(buffer, offset, length);
+            while (chunk.hasRemaining()) {
+                channel.write(chunk);
+            }
+        }
+        size += length;
+    }
+
+    private static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(CHECKSUM_ALGORITHM + " is not supported by this JVM", e);
+        }
+    }
+
+    private class TeeInputStream extends InputStream {
+
+        private final InputStream source;
+
+        private TeeInputStream(InputStream source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = source.read(buffer, offset, length);
+            if (read > 0) {
+                spool(buffer, offset, read);
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            source.close();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.musicplatform.resource.storage;
+
+import com.musicplatform.resource.exception.DataProcessingException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface BlobStore {
+
+    /**
+     * Stores the content of {@code source} under a key derived from its checksum and returns that key.
+     * The source file is left in place, so it can be stored again if a concurrent release deleted the blob.
+     */
+    String put(Path source, String checksum);
+
+    InputStream open(String key);
+
+    default InputStream open(String key, long offset, long length) {
+        InputStream content = open(key);
+        try {
+            content.skipNBytes(offset);
+            return content;
+        } catch (IOException e) {
+            closeQuietly(content);
+            throw new DataProcessingException("Failed to seek audio blob " + key + " to offset " + offset, e);
+        }
+    }
+
+    /**
+     * Returns the local file holding the blob when the backend is file-backed, so callers can serve it zero-copy.
+     */
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    boolean exists(String key);
+
+    void delete(String key);
+
+    private static void closeQuietly(InputStream content) {
+        try {
+            content.close();
+        } catch (IOException ignored) {
+            // the seek failure is the error worth reporting
+        }
+    }
+}
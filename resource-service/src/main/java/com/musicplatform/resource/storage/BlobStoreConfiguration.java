@@ -0,0 +1,57 @@
+package com.musicplatform.resource.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+@Configuration
+public class BlobStoreConfiguration {
+
+    private static final String BACKEND_PROPERTY = "resource.storage.backend";
+
+    @Bean
+    @ConditionalOnProperty(name = BACKEND_PROPERTY, havingValue = "filesystem", matchIfMissing = true)
+    public BlobStore fileSystemBlobStore(@Value("${resource.storage.filesystem.root}") Path root) {
+        return new FileSystemBlobStore(root);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = BACKEND_PROPERTY, havingValue = "database")
+    public BlobStore databaseBlobStore(JdbcTemplate jdbcTemplate) {
+        return new DatabaseBlobStore(jdbcTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = BACKEND_PROPERTY, havingValue = "s3")
+    public BlobStore s3BlobStore(S3Client s3Client, @Value("${resource.storage.s3.bucket}") String bucket) {
+        return new S3BlobStore(s3Client, bucket);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = BACKEND_PROPERTY, havingValue = "s3")
+    public S3Client s3Client(@Value("${resource.storage.s3.endpoint:}") String endpoint,
+                             @Value("${resource.storage.s3.region}") String region,
+                             @Value("${resource.storage.s3.access-key}") String accessKey,
+                             @Value("${resource.storage.s3.secret-key}") String secretKey,
+                             @Value("${resource.storage.s3.path-style-access}") boolean pathStyleAccess) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
+                .forcePathStyle(pathStyleAccess);
+
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.musicplatform.resource.storage;
+
+import com.musicplatform.resource.exception.DataProcessingException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+
+public class DatabaseBlobStore implements BlobStore {
+
+    private static final String INSERT_BLOB_SQL =
+            "INSERT INTO resource_blobs (storage_key, data) VALUES (?, ?) ON CONFLICT (storage_key) DO NOTHING";
+    private static final String SELECT_BLOB_SQL = "SELECT data FROM resource_blobs WHERE storage_key = ?";
+    private static final String EXISTS_BLOB_SQL = "SELECT EXISTS (SELECT 1 FROM resource_blobs WHERE storage_key = ?)";
+    private static final String DELETE_BLOB_SQL = "DELETE FROM resource_blobs WHERE storage_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DatabaseBlobStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public String put(Path source, String checksum) {
+        try (InputStream content = Files.newInputStream(source)) {
+            long size = Files.size(source);
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(INSERT_BLOB_SQL);
+                statement.setString(1, checksum);
+                statement.setBinaryStream(2, content, Math.toIntExact(size));
+                return statement;
+            });
+            return checksum;
+        } catch (IOException e) {
+            throw new DataProcessingException("Failed to store audio blob " + checksum, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        byte[] data = jdbcTemplate.query(SELECT_BLOB_SQL,
+                resultSet -> resultSet.next() ? resultSet.getBytes(1) : null,
+                key);
+
+        if (data == null) {
+            throw new DataProcessingException("Audio blob " + key + " is missing from storage");
+        }
+        return new ByteArrayInputStream(data);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_BLOB_SQL, Boolean.class, key));
+    }
+
+    @Override
+    public void delete(String key) {
+        jdbcTemplate.update(DELETE_BLOB_SQL, key);
+    }
+}
@@ -0,0 +1,101 @@
+package com.musicplatform.resource.storage;
+
+import com.musicplatform.resource.exception.DataProcessingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+public class FileSystemBlobStore implements BlobStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileSystemBlobStore.class);
+    private static final String STAGING_FILE_PREFIX = ".staging-";
+
+    private final Path root;
+
+    public FileSystemBlobStore(Path root) {
+        this.root = root;
+    }
+
+    @Override
+    public String put(Path source, String checksum) {
+        Path target = resolve(checksum);
+
+        try {
+            if (Files.exists(target)) {
+                logger.debug("Blob {} already stored, skipping write", checksum);
+                return checksum;
+            }
+
+            Files.createDirectories(target.getParent());
+            linkIntoPlace(source, target);
+            logger.debug("Stored blob {} at {}", checksum, target);
+
+            return checksum;
+        } catch (IOException e) {
+            throw new DataProcessingException("Failed to store audio blob " + checksum, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (NoSuchFileException e) {
+            throw new DataProcessingException("Audio blob " + key + " is missing from storage", e);
+        } catch (IOException e) {
+            throw new DataProcessingException("Failed to open audio blob " + key, e);
+        }
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new DataProcessingException("Failed to delete audio blob " + key, e);
+        }
+    }
+
+    // A hard link costs no more than the move it replaces and keeps the source for the caller; copies go through a
+    // staging file so readers never see a partial blob.
+    private void linkIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+        } catch (FileAlreadyExistsException e) {
+            logger.debug("Blob {} was stored concurrently, keeping the existing copy", target.getFileName());
+        } catch (IOException | UnsupportedOperationException e) {
+            Path staging = Files.createTempFile(target.getParent(), STAGING_FILE_PREFIX, null);
+            try {
+                Files.copy(source, staging, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(staging);
+            }
+        }
+    }
+
+    private Path resolve(String key) {
+        return root.resolve(key.substring(0, 2))
+                .resolve(key.substring(2, 4))
+                .resolve(key);
+    }
+}
@@ -0,0 +1,222 @@
+package com.musicplatform.resource.storage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Keeps the most played remote blobs in direct buffers, evicting least recently used entries but only in favour of
+// a blob the frequency sketch has seen more often, so a one-off scan cannot flush the tracks that are actually hot.
+// Evicted buffers are released by the garbage collector once the last response reading them has finished.
+@Component
+public class HotBlobCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotBlobCache.class);
+    private static final String REQUESTS_METER = "resource.storage.hot-blobs.requests";
+    private static final String ADMISSIONS_METER = "resource.storage.hot-blobs.admissions";
+    private static final String EVICTIONS_METER = "resource.storage.hot-blobs.evictions";
+    private static final String SIZE_GAUGE = "resource.storage.hot-blobs.size";
+    private static final String ENTRIES_GAUGE = "resource.storage.hot-blobs.entries";
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final int minFrequency;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, ByteBuffer> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<String> loading = new HashSet<>();
+    private final FrequencySketch sketch;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter admitted;
+    private final Counter rejected;
+    private final Counter evictions;
+    private long totalBytes;
+
+    @Autowired
+    public HotBlobCache(@Value("${resource.storage.hot-blobs.enabled}") boolean enabled,
+                        @Value("${resource.storage.hot-blobs.max-size}") DataSize maxSize,
+                        @Value("${resource.storage.hot-blobs.max-entry-size}") DataSize maxEntrySize,
+                        @Value("${resource.storage.hot-blobs.min-frequency}") int minFrequency,
+                        @Value("${resource.storage.hot-blobs.tracked-keys}") int trackedKeys,
+                        MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxBytes = maxSize.toBytes();
+        this.maxEntryBytes = Math.min(maxEntrySize.toBytes(), Integer.MAX_VALUE);
+        this.minFrequency = minFrequency;
+        this.sketch = new FrequencySketch(trackedKeys);
+        this.hits = Counter.builder(REQUESTS_METER).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(REQUESTS_METER).tag("result", "miss").register(meterRegistry);
+        this.admitted = Counter.builder(ADMISSIONS_METER).tag("result", "admitted").register(meterRegistry);
+        this.rejected = Counter.builder(ADMISSIONS_METER).tag("result", "rejected").register(meterRegistry);
+        this.evictions = Counter.builder(EVICTIONS_METER).register(meterRegistry);
+        Gauge.builder(SIZE_GAUGE, this, HotBlobCache::totalBytes)
+                .description("Bytes of audio held or being loaded into the hot blob cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder(ENTRIES_GAUGE, this, HotBlobCache::entryCount)
+                .description("Audio blobs held in the hot blob cache")
+                .register(meterRegistry);
+    }
+
+    // Every lookup counts towards the key's popularity, whether or not it is cached.
+    public Optional<ByteBuffer> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        lock.lock();
+        try {
+            sketch.increment(key);
+            ByteBuffer cached = entries.get(key);
+            if (cached == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+            hits.increment();
+            return Optional.of(cached.duplicate());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Reads the whole blob only when it wins admission; otherwise the caller streams it from storage as usual.
+    public Optional<ByteBuffer> load(String key, long size, Supplier<InputStream> source) throws IOException {
+        if (!enabled || !reserve(key, size)) {
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer;
+        try (ReadableByteChannel channel = Channels.newChannel(source.get())) {
+            buffer = ByteBuffer.allocateDirect((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) == -1) {
+                    throw new EOFException("Audio blob " + key + " ended " + buffer.remaining() + " bytes early");
+                }
+            }
+            buffer.flip();
+        } catch (IOException | RuntimeException e) {
+            release(key, size);
+            throw e;
+        }
+
+        ByteBuffer cached = buffer.asReadOnlyBuffer();
+        lock.lock();
+        try {
+            if (loading.remove(key)) {
+                entries.put(key, cached);
+            } else {
+                totalBytes -= size;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return Optional.of(cached.duplicate());
+    }
+
+    public void invalidate(String key) {
+        lock.lock();
+        try {
+            ByteBuffer removed = entries.remove(key);
+            if (removed != null) {
+                totalBytes -= removed.capacity();
+            }
+            loading.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long totalBytes() {
+        lock.lock();
+        try {
+            return totalBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int entryCount() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Space is reserved up front so concurrent loads cannot overshoot the budget; the victims are only evicted
+    // if every one of them is less popular than the candidate.
+    private boolean reserve(String key, long size) {
+        lock.lock();
+        try {
+            if (size <= 0 || size > maxEntryBytes || entries.containsKey(key) || loading.contains(key)) {
+                return false;
+            }
+
+            int candidateFrequency = sketch.frequency(key);
+            if (candidateFrequency < minFrequency) {
+                return false;
+            }
+
+            List<String> victims = new ArrayList<>();
+            long reclaimable = 0;
+            Iterator<Map.Entry<String, ByteBuffer>> eldest = entries.entrySet().iterator();
+            while (totalBytes - reclaimable + size > maxBytes) {
+                if (!eldest.hasNext()) {
+                    rejected.increment();
+                    return false;
+                }
+                Map.Entry<String, ByteBuffer> victim = eldest.next();
+                if (sketch.frequency(victim.getKey()) >= candidateFrequency) {
+                    rejected.increment();
+                    return false;
+                }
+                victims.add(victim.getKey());
+                reclaimable += victim.getValue().capacity();
+            }
+
+            victims.forEach(entries::remove);
+            evictions.increment(victims.size());
+            totalBytes += size - reclaimable;
+            loading.add(key);
+            admitted.increment();
+            logger.debug("Admitted blob {} into the hot blob cache, evicting {}", key, victims.size());
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(String key, long size) {
+        lock.lock();
+        try {
+            loading.remove(key);
+            totalBytes -= size;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.musicplatform.resource.storage;
+
+import com.musicplatform.resource.entity.AudioBlob;
+import com.musicplatform.resource.exception.DataProcessingException;
+import com.musicplatform.resource.repository.AudioBlobRepository;
+import com.musicplatform.resource.repository.ResourceRepository;
+import com.musicplatform.resource.service.AudioSpooler;
+import com.musicplatform.resource.service.SpooledAudio;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "resource.storage.migration.enabled", havingValue = "true")
+public class InlineAudioMigrationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(InlineAudioMigrationJob.class);
+
+    private final ResourceRepository resourceRepository;
+    private final AudioBlobRepository audioBlobRepository;
+    private final BlobStore blobStore;
+    private final AudioSpooler audioSpooler;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public InlineAudioMigrationJob(ResourceRepository resourceRepository,
+                                   AudioBlobRepository audioBlobRepository,
+                                   BlobStore blobStore,
+                                   AudioSpooler audioSpooler,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${resource.storage.migration.batch-size}") int batchSize) {
+        this.resourceRepository = resourceRepository;
+        this.audioBlobRepository = audioBlobRepository;
+        this.blobStore = blobStore;
+        this.audioSpooler = audioSpooler;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${resource.storage.migration.interval}")
+    public void migrateBatch() {
+        List<Long> inlineResourceIds = resourceRepository.findInlineAudioIds(batchSize);
+        if (inlineResourceIds.isEmpty()) {
+            return;
+        }
+
+        int migrated = 0;
+        for (Long resourceId : inlineResourceIds) {
+            try {
+                migrate(resourceId);
+                migrated++;
+            } catch (DataProcessingException e) {
+                logger.warn("Failed to migrate inline audio of resource with ID {}: {}", resourceId, e.getMessage());
+            }
+        }
+
+        logger.info("Migrated {} of {} inline audio resources to blob storage", migrated, inlineResourceIds.size());
+    }
+
+    private void migrate(Long resourceId) {
+        try (InputStream inlineAudio = resourceRepository.openInlineAudio(resourceId);
+             SpooledAudio spooledAudio = audioSpooler.open(inlineAudio)) {
+            spooledAudio.drain();
+
+            String storageKey = blobStore.put(spooledAudio.path(), spooledAudio.checksum());
+            // Registered under the blob lock like uploads, and stored again if a release deleted it after the put.
+            transactionTemplate.executeWithoutResult(status -> {
+                audioBlobRepository.lockStorageKeys(List.of(storageKey));
+                if (resourceRepository.markMigrated(resourceId, storageKey, spooledAudio.size(), spooledAudio.checksum())) {
+                    audioBlobRepository.registerAll(List.of(
+                            new AudioBlob(spooledAudio.checksum(), storageKey, spooledAudio.size(), null)));
+                    if (!blobStore.exists(storageKey)) {
+                        blobStore.put(spooledAudio.path(), spooledAudio.checksum());
+                    }
+                }
+            });
+        } catch (IOException e) {
+            throw new DataProcessingException("Failed to read inline audio of resource with ID " + resourceId, e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.musicplatform.resource.storage;
+
+import com.musicplatform.resource.exception.DataProcessingException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+public class S3BlobStore implements BlobStore {
+
+    private static final String AUDIO_MPEG_MEDIA_TYPE = "audio/mpeg";
+
+    private final S3Client s3Client;
+    private final String bucket;
+
+    public S3BlobStore(S3Client s3Client, String bucket) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+    }
+
+    @Override
+    public String put(Path source, String checksum) {
+        try {
+            s3Client.putObject(request -> request
+                            .bucket(bucket)
+                            .key(checksum)
+                            .contentType(AUDIO_MPEG_MEDIA_TYPE),
+                    RequestBody.fromFile(source));
+            return checksum;
+        } catch (SdkException e) {
+            throw new DataProcessingException("Failed to store audio blob " + checksum, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return s3Client.getObject(request -> request.bucket(bucket).key(key));
+        } catch (NoSuchKeyException e) {
+            throw new DataProcessingException("Audio blob " + key + " is missing from storage", e);
+        } catch (SdkException e) {
+            throw new DataProcessingException("Failed to open audio blob " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key, long offset, long length) {
+        try {
+            return s3Client.getObject(request -> request
+                    .bucket(bucket)
+                    .key(key)
+                    .range(String.format("bytes=%d-%d", offset, offset + length - 1)));
+        } catch (NoSuchKeyException e) {
+            throw new DataProcessingException("Audio blob " + key + " is missing from storage", e);
+        } catch (SdkException e) {
+            throw new DataProcessingException("Failed to open audio blob " + key, e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        try {
+            s3Client.headObject(request -> request.bucket(bucket).key(key));
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (SdkException e) {
+            throw new DataProcessingException("Failed to look up audio blob " + key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            s3Client.deleteObject(request -> request.bucket(bucket).key(key));
+        } catch (SdkException e) {
+            throw new DataProcessingException("Failed to delete audio blob " + key, e);
+        }
+    }
+}
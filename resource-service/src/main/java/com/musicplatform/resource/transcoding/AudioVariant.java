@@ -0,0 +1,12 @@
+package com.musicplatform.resource.transcoding;
+
+import com.musicplatform.resource.service.AudioContent;
+
+// The content to serve for a bitrate request. release is null when the original is served; otherwise it must run
+// once the response no longer needs the variant's file.
+public record AudioVariant(AudioContent content, Runnable release) {
+
+    static AudioVariant original(AudioContent content) {
+        return new AudioVariant(content, null);
+    }
+}
@@ -0,0 +1,72 @@
+package com.musicplatform.resource.transcoding;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Runs a local encoder such as ffmpeg; the command is split on whitespace and {input}, {output} and {bitrate}
+// are substituted per argument, so paths with spaces need no quoting.
+@Component
+public class ProcessTranscoder implements Transcoder {
+
+    private static final String LOG_FILE_PREFIX = "transcode-";
+    private static final String LOG_FILE_SUFFIX = ".log";
+    private static final int MAX_ERROR_OUTPUT = 500;
+
+    private final List<String> commandTemplate;
+    private final Duration timeout;
+
+    @Autowired
+    public ProcessTranscoder(@Value("${resource.transcoding.command}") String command,
+                             @Value("${resource.transcoding.timeout}") Duration timeout) {
+        this.commandTemplate = Arrays.asList(command.trim().split("\\s+"));
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void transcode(Path source, Path target, int bitrateKbps) throws IOException {
+        List<String> command = commandTemplate.stream()
+                .map(argument -> argument
+                        .replace("{input}", source.toString())
+                        .replace("{output}", target.toString())
+                        .replace("{bitrate}", Integer.toString(bitrateKbps)))
+                .toList();
+
+        Path log = Files.createTempFile(target.getParent(), LOG_FILE_PREFIX, LOG_FILE_SUFFIX);
+        try {
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(log.toFile())
+                    .start();
+            process.getOutputStream().close();
+
+            if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+                throw new IOException("Transcoder did not finish within " + timeout);
+            }
+            if (process.exitValue() != 0) {
+                throw new IOException(String.format("Transcoder exited with status %d: %s",
+                        process.exitValue(), tail(log)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while transcoding " + source, e);
+        } finally {
+            Files.deleteIfExists(log);
+        }
+    }
+
+    private String tail(Path log) throws IOException {
+        String output = Files.readString(log, StandardCharsets.UTF_8).strip();
+        return output.length() <= MAX_ERROR_OUTPUT ? output : output.substring(output.length() - MAX_ERROR_OUTPUT);
+    }
+}
@@ -0,0 +1,207 @@
+package com.musicplatform.resource.transcoding;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Variants are named after the content they were made from, so they stay valid across restarts and are reloaded
+// oldest first; recency is tracked in memory only.
+// A response opens its variant only after the handler returns, so acquired variants are pinned until released:
+// evicting one drops it from the budget at once, but its file is deleted by the last reader's release.
+// Files are moved in and deleted under the lock, so a pending deletion never removes a variant committed again.
+@Component
+public class TranscodeCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranscodeCache.class);
+    private static final String SIZE_GAUGE = "resource.transcoding.cache.size";
+    private static final String VARIANT_FILE_SUFFIX = ".mp3";
+    private static final String TEMP_DIRECTORY = "incoming";
+    private static final String TEMP_FILE_PREFIX = "variant-";
+
+    private final Path directory;
+    private final Path tempDirectory;
+    private final long maxBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Integer> readers = new HashMap<>();
+    private final Set<String> evictedWhileRead = new HashSet<>();
+    private long totalBytes;
+
+    @Autowired
+    public TranscodeCache(@Value("${resource.transcoding.cache.dir}") Path directory,
+                          @Value("${resource.transcoding.cache.max-size}") DataSize maxSize,
+                          MeterRegistry meterRegistry) throws IOException {
+        this.directory = directory;
+        this.tempDirectory = directory.resolve(TEMP_DIRECTORY);
+        this.maxBytes = maxSize.toBytes();
+        Gauge.builder(SIZE_GAUGE, this, TranscodeCache::totalBytes)
+                .description("Bytes of transcoded variants held in the disk cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        load();
+    }
+
+    public boolean contains(String key) {
+        lock.lock();
+        try {
+            return find(key).isPresent();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Every variant returned must be released exactly once.
+    public Optional<Path> acquire(String key) {
+        lock.lock();
+        try {
+            Optional<Path> variant = find(key);
+            variant.ifPresent(found -> readers.merge(key, 1, Integer::sum));
+            return variant;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(String key) {
+        lock.lock();
+        try {
+            Integer remaining = readers.computeIfPresent(key, (ignored, count) -> count == 1 ? null : count - 1);
+            if (remaining == null && evictedWhileRead.remove(key)) {
+                deleteQuietly(variantFile(key));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Path createTempFile() throws IOException {
+        Files.createDirectories(tempDirectory);
+        return Files.createTempFile(tempDirectory, TEMP_FILE_PREFIX, VARIANT_FILE_SUFFIX);
+    }
+
+    // The new variant is the most recently used entry, so it is never the one evicted to make room for itself.
+    public void commit(String key, Path tempFile) throws IOException {
+        Path variant = variantFile(key);
+        long size = Files.size(tempFile);
+
+        int evicted = 0;
+        lock.lock();
+        try {
+            Files.move(tempFile, variant, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            evictedWhileRead.remove(key);
+            Long replaced = entries.put(key, size);
+            totalBytes += size - (replaced == null ? 0 : replaced);
+
+            Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && entries.size() > 1) {
+                Map.Entry<String, Long> entry = eldest.next();
+                totalBytes -= entry.getValue();
+                if (readers.containsKey(entry.getKey())) {
+                    evictedWhileRead.add(entry.getKey());
+                } else {
+                    deleteQuietly(variantFile(entry.getKey()));
+                }
+                eldest.remove();
+                evicted++;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (evicted > 0) {
+            logger.debug("Evicted {} transcoded variants to stay within {} bytes", evicted, maxBytes);
+        }
+    }
+
+    public long totalBytes() {
+        lock.lock();
+        try {
+            return totalBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Optional<Path> find(String key) {
+        Long size = entries.get(key);
+        if (size == null) {
+            return Optional.empty();
+        }
+        Path variant = variantFile(key);
+        if (!Files.isRegularFile(variant)) {
+            entries.remove(key);
+            totalBytes -= size;
+            return Optional.empty();
+        }
+        return Optional.of(variant);
+    }
+
+    private void load() throws IOException {
+        Files.createDirectories(tempDirectory);
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(tempDirectory)) {
+            leftovers.forEach(this::deleteQuietly);
+        }
+
+        List<Path> variants = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + VARIANT_FILE_SUFFIX)) {
+            files.forEach(variants::add);
+        }
+        try {
+            variants.sort(Comparator.comparing(variant -> attributes(variant).lastModifiedTime()));
+            for (Path variant : variants) {
+                String fileName = variant.getFileName().toString();
+                long size = attributes(variant).size();
+                entries.put(fileName.substring(0, fileName.length() - VARIANT_FILE_SUFFIX.length()), size);
+                totalBytes += size;
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        logger.info("Loaded {} transcoded variants ({} bytes) from {}", entries.size(), totalBytes, directory);
+    }
+
+    private BasicFileAttributes attributes(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path variantFile(String key) {
+        return directory.resolve(key + VARIANT_FILE_SUFFIX);
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete transcoded variant {}", file, e);
+        }
+    }
+}
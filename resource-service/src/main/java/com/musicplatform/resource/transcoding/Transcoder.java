@@ -0,0 +1,9 @@
+package com.musicplatform.resource.transcoding;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public interface Transcoder {
+
+    void transcode(Path source, Path target, int bitrateKbps) throws IOException;
+}
@@ -0,0 +1,34 @@
+package com.musicplatform.resource.transcoding;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class TranscodingConfiguration {
+
+    // Each worker drives one encoder process, so the pool size caps how many cores transcoding can take.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService transcodingExecutor(@Value("${resource.transcoding.parallelism}") int parallelism,
+                                               @Value("${resource.transcoding.queue-capacity}") int queueCapacity) {
+        int threads = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "transcoding-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+        return ContextExecutorService.wrap(executor, ContextSnapshotFactory.builder().build());
+    }
+}
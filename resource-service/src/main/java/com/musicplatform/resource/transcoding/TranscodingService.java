@@ -0,0 +1,229 @@
+package com.musicplatform.resource.transcoding;
+
+import com.musicplatform.resource.exception.DataProcessingException;
+import com.musicplatform.resource.exception.TranscodingUnavailableException;
+import com.musicplatform.resource.service.AudioContent;
+import com.musicplatform.resource.service.ResourceService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Service
+public class TranscodingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranscodingService.class);
+    private static final String REQUESTS_METER = "resource.transcoding.requests";
+    private static final String DURATION_TIMER = "resource.transcoding.duration";
+
+    private final ResourceService resourceService;
+    private final Transcoder transcoder;
+    private final TranscodeCache transcodeCache;
+    private final ExecutorService transcodingExecutor;
+    private final boolean enabled;
+    private final List<Integer> bitrates;
+    private final ConcurrentMap<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Timer durationTimer;
+
+    @Autowired
+    public TranscodingService(ResourceService resourceService,
+                              Transcoder transcoder,
+                              TranscodeCache transcodeCache,
+                              @Qualifier("transcodingExecutor") ExecutorService transcodingExecutor,
+                              MeterRegistry meterRegistry,
+                              @Value("${resource.transcoding.enabled}") boolean enabled,
+                              @Value("${resource.transcoding.bitrates}") List<Integer> bitrates) {
+        this.resourceService = resourceService;
+        this.transcoder = transcoder;
+        this.transcodeCache = transcodeCache;
+        this.transcodingExecutor = transcodingExecutor;
+        this.enabled = enabled;
+        this.bitrates = bitrates;
+        this.hits = requestCounter(meterRegistry, "hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+        this.coalesced = requestCounter(meterRegistry, "coalesced");
+        this.durationTimer = Timer.builder(DURATION_TIMER)
+                .description("Time to transcode a resource into a lower bitrate variant")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // A variant that would not be smaller than the original, e.g. a 128 kbps request for a 96 kbps upload,
+    // is never worth sending, so the original is served instead.
+    public AudioVariant getVariant(AudioContent original, int bitrate) {
+        if (!enabled) {
+            throw new IllegalArgumentException("Transcoding is not enabled, omit the bitrate parameter");
+        }
+        if (!bitrates.contains(bitrate)) {
+            throw new IllegalArgumentException(String.format("Invalid value '%s' for bitrate. Supported bitrates are %s",
+                    bitrate, bitrates.stream().map(String::valueOf).collect(Collectors.joining(", "))));
+        }
+
+        String key = variantKey(original, bitrate);
+        Optional<Path> pinned = transcodeCache.acquire(key);
+        if (pinned.isPresent()) {
+            hits.increment();
+        } else {
+            await(original, bitrate, transcodeOnce(key, original, bitrate));
+            pinned = transcodeCache.acquire(key);
+        }
+        Path variant = pinned.orElseThrow(() -> new TranscodingUnavailableException(
+                "Transcoded variant was evicted before it could be served, retry later or request the original"));
+
+        long size;
+        try {
+            size = sizeOf(variant, original.resourceId());
+        } catch (RuntimeException e) {
+            transcodeCache.release(key);
+            throw e;
+        }
+        if (size >= original.size()) {
+            transcodeCache.release(key);
+            return AudioVariant.original(original);
+        }
+        String eTag = original.checksum() == null ? null : original.checksum() + "-" + bitrate + "k";
+        return new AudioVariant(new AudioContent(original.resourceId(), null, size, eTag, original.lastModified(), variant),
+                () -> transcodeCache.release(key));
+    }
+
+    // Concurrent misses for the same variant share a single encoder run instead of each starting their own.
+    private CompletableFuture<Void> transcodeOnce(String key, AudioContent original, int bitrate) {
+        CompletableFuture<Void> job = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.putIfAbsent(key, job);
+        if (running != null) {
+            coalesced.increment();
+            return running;
+        }
+
+        misses.increment();
+        try {
+            transcodingExecutor.execute(() -> {
+                try {
+                    transcode(key, original, bitrate);
+                    job.complete(null);
+                } catch (Throwable t) {
+                    job.completeExceptionally(t);
+                    throw t;
+                } finally {
+                    inFlight.remove(key, job);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, job);
+            job.completeExceptionally(new TranscodingUnavailableException(
+                    "Too many variants are being transcoded, retry later or request the original"));
+        }
+        return job;
+    }
+
+    private void transcode(String key, AudioContent original, int bitrate) {
+        if (transcodeCache.contains(key)) {
+            return;
+        }
+
+        Path downloaded = null;
+        Path output = null;
+        try {
+            Path source = original.file().orElse(null);
+            if (source == null) {
+                downloaded = transcodeCache.createTempFile();
+                try (OutputStream downloadStream = Files.newOutputStream(downloaded)) {
+                    resourceService.transferTo(original, 0, original.size(), downloadStream);
+                }
+                source = downloaded;
+            }
+
+            output = transcodeCache.createTempFile();
+            long startNanos = System.nanoTime();
+            transcoder.transcode(source, output, bitrate);
+            durationTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            if (Files.size(output) == 0) {
+                throw new IOException("Transcoder produced no audio");
+            }
+
+            transcodeCache.commit(key, output);
+            output = null;
+            logger.info("Transcoded resource with ID {} to {} kbps", original.resourceId(), bitrate);
+        } catch (IOException e) {
+            throw new DataProcessingException(String.format("Failed to transcode resource with ID=%s to %d kbps",
+                    original.resourceId(), bitrate), e);
+        } finally {
+            deleteQuietly(downloaded);
+            deleteQuietly(output);
+        }
+    }
+
+    private void await(AudioContent original, int bitrate, CompletableFuture<Void> job) {
+        try {
+            job.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new DataProcessingException(String.format("Failed to transcode resource with ID=%s to %d kbps",
+                    original.resourceId(), bitrate), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataProcessingException("Interrupted while waiting for resource with ID="
+                    + original.resourceId() + " to be transcoded", e);
+        }
+    }
+
+    // Keyed by content rather than resource so duplicate uploads share their variants.
+    private String variantKey(AudioContent original, int bitrate) {
+        String content = original.checksum() != null ? original.checksum() : "resource-" + original.resourceId();
+        return content + "-" + bitrate;
+    }
+
+    private long sizeOf(Path variant, Long resourceId) {
+        try {
+            return Files.size(variant);
+        } catch (IOException e) {
+            throw new DataProcessingException("Failed to read transcoded variant of resource with ID=" + resourceId, e);
+        }
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(REQUESTS_METER)
+                .description("Bitrate variant requests by how they were served")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete transcoding scratch file {}", file, e);
+        }
+    }
+}
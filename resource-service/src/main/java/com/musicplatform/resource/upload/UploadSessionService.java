@@ -0,0 +1,286 @@
+package com.musicplatform.resource.upload;
+
+import com.musicplatform.resource.dto.CreateResourceResponse;
+import com.musicplatform.resource.dto.UploadSessionResponse;
+import com.musicplatform.resource.exception.DataProcessingException;
+import com.musicplatform.resource.exception.InvalidResourceException;
+import com.musicplatform.resource.exception.ResourceNotFoundException;
+import com.musicplatform.resource.exception.UploadOffsetMismatchException;
+import com.musicplatform.resource.service.ResourceService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// A session is nothing but its staging file: the committed offset is the file size and the last write time
+// drives expiry, so sessions survive restarts without any bookkeeping of their own.
+@Service
+public class UploadSessionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadSessionService.class);
+    private static final String STAGING_FILE_SUFFIX = ".part";
+    private static final String SPOOL_FILE_PREFIX = "session-";
+    private static final String STAGING_COPY_PREFIX = ".copy-";
+    private static final String SPOOL_FILE_SUFFIX = ".mp3";
+
+    private final ResourceService resourceService;
+    private final Path stagingDirectory;
+    private final Path spoolDirectory;
+    private final Duration ttl;
+    private final int chunkSize;
+    private final long maxSize;
+    private final ConcurrentMap<UUID, ReentrantLock> sessionLocks = new ConcurrentHashMap<>();
+
+    @Autowired
+    public UploadSessionService(ResourceService resourceService,
+                                @Value("${resource.upload.sessions.staging-dir}") Path stagingDirectory,
+                                @Value("${resource.upload.spool-dir}") Path spoolDirectory,
+                                @Value("${resource.upload.sessions.ttl}") Duration ttl,
+                                @Value("${resource.upload.chunk-size}") int chunkSize,
+                                @Value("${resource.upload.max-size}") long maxSize) {
+        this.resourceService = resourceService;
+        this.stagingDirectory = stagingDirectory;
+        this.spoolDirectory = spoolDirectory;
+        this.ttl = ttl;
+        this.chunkSize = chunkSize;
+        this.maxSize = maxSize;
+    }
+
+    public UploadSessionResponse open() {
+        UUID sessionId = UUID.randomUUID();
+        try {
+            Files.createDirectories(stagingDirectory);
+            Files.createFile(stagingFile(sessionId));
+        } catch (IOException e) {
+            throw new DataProcessingException("Failed to create upload session", e);
+        }
+
+        logger.info("Opened upload session {}", sessionId);
+        return new UploadSessionResponse(sessionId.toString(), 0, Instant.now().plus(ttl));
+    }
+
+    public UploadSessionResponse status(String uploadId) {
+        UUID sessionId = parseSessionId(uploadId);
+        return describe(sessionId, existingStagingFile(sessionId));
+    }
+
+    // Chunks may restart anywhere up to the committed offset, so a client can resend a chunk whose
+    // acknowledgement it never received; starting past it would leave a hole and is refused.
+    public UploadSessionResponse write(String uploadId, long offset, InputStream chunk) {
+        UUID sessionId = parseSessionId(uploadId);
+        ReentrantLock lock = lockFor(existingSessionId(sessionId));
+        lock.lock();
+        try {
+            Path stagingFile = existingStagingFile(sessionId);
+            long committedOffset = Files.size(stagingFile);
+            if (offset < 0 || offset > committedOffset) {
+                throw new UploadOffsetMismatchException(String.format(
+                        "Chunk offset %d does not continue upload session %s at offset %d",
+                        offset, sessionId, committedOffset), committedOffset);
+            }
+
+            detachFromStoredBlob(stagingFile);
+            try (FileChannel channel = FileChannel.open(stagingFile, StandardOpenOption.WRITE)) {
+                long position = offset;
+                byte[] buffer = new byte[chunkSize];
+                int read;
+                while ((read = chunk.read(buffer)) != -1) {
+                    if (position + read > maxSize) {
+                        throw new InvalidResourceException(
+                                String.format("MP3 data is too large: maximum allowed size is %s bytes", maxSize));
+                    }
+                    ByteBuffer pending = ByteBuffer.wrap(buffer, 0, read);
+                    while (pending.hasRemaining()) {
+                        position += channel.write(pending, position);
+                    }
+                }
+                channel.force(false);
+            }
+
+            return describe(sessionId, stagingFile);
+        } catch (IOException e) {
+            throw new DataProcessingException("Failed to write chunk of upload session " + sessionId, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The pipeline consumes a hard link to the staged file, so a completion that fails halfway, for example
+    // because the song service is down, leaves the session intact for another attempt.
+    public CreateResourceResponse complete(String uploadId) {
+        UUID sessionId = parseSessionId(uploadId);
+        ReentrantLock lock = lockFor(existingSessionId(sessionId));
+        lock.lock();
+        try {
+            Path stagingFile = existingStagingFile(sessionId);
+            CreateResourceResponse response = resourceService.create(linkIntoSpool(sessionId, stagingFile));
+
+            Files.deleteIfExists(stagingFile);
+            sessionLocks.remove(sessionId);
+            logger.info("Completed upload session {} as resource with ID: {}", sessionId, response.id());
+            return response;
+        } catch (IOException e) {
+            throw new DataProcessingException("Failed to complete upload session " + sessionId, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void abort(String uploadId) {
+        UUID sessionId = parseSessionId(uploadId);
+        ReentrantLock lock = lockFor(existingSessionId(sessionId));
+        lock.lock();
+        try {
+            Files.delete(existingStagingFile(sessionId));
+            sessionLocks.remove(sessionId);
+        } catch (IOException e) {
+            throw new DataProcessingException("Failed to abort upload session " + sessionId, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${resource.upload.sessions.cleanup-interval}")
+    public void removeExpiredSessions() {
+        if (!Files.isDirectory(stagingDirectory)) {
+            return;
+        }
+
+        Instant cutoff = Instant.now().minus(ttl);
+        int removed = 0;
+        try (DirectoryStream<Path> stagingFiles = Files.newDirectoryStream(stagingDirectory, "*" + STAGING_FILE_SUFFIX)) {
+            for (Path stagingFile : stagingFiles) {
+                if (removeIfExpired(stagingFile, cutoff)) {
+                    removed++;
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to scan upload staging directory {}", stagingDirectory, e);
+        }
+
+        if (removed > 0) {
+            logger.info("Removed {} abandoned upload sessions", removed);
+        }
+    }
+
+    // Sessions busy with a write or completion are skipped; they just proved they are not abandoned.
+    private boolean removeIfExpired(Path stagingFile, Instant cutoff) throws IOException {
+        String fileName = stagingFile.getFileName().toString();
+        UUID sessionId;
+        try {
+            sessionId = UUID.fromString(fileName.substring(0, fileName.length() - STAGING_FILE_SUFFIX.length()));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+
+        ReentrantLock lock = lockFor(sessionId);
+        if (!lock.tryLock()) {
+            return false;
+        }
+        try {
+            if (Files.getLastModifiedTime(stagingFile).toInstant().isAfter(cutoff)) {
+                return false;
+            }
+            Files.deleteIfExists(stagingFile);
+            sessionLocks.remove(sessionId);
+            return true;
+        } catch (NoSuchFileException e) {
+            sessionLocks.remove(sessionId);
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // A completion that failed after storing the blob leaves the staging file hard-linked to it, and writing in
+    // place would then rewrite stored audio; the session gets its own copy first.
+    private void detachFromStoredBlob(Path stagingFile) throws IOException {
+        Object linkCount;
+        try {
+            linkCount = Files.getAttribute(stagingFile, "unix:nlink");
+        } catch (UnsupportedOperationException e) {
+            return;
+        }
+        if (linkCount instanceof Integer links && links > 1) {
+            Path copy = Files.createTempFile(stagingDirectory, STAGING_COPY_PREFIX, null);
+            Files.copy(stagingFile, copy, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(copy, stagingFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    private Path linkIntoSpool(UUID sessionId, Path stagingFile) throws IOException {
+        Files.createDirectories(spoolDirectory);
+        Path spoolFile = spoolDirectory.resolve(SPOOL_FILE_PREFIX + sessionId + SPOOL_FILE_SUFFIX);
+        Files.deleteIfExists(spoolFile);
+        try {
+            Files.createLink(spoolFile, stagingFile);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(stagingFile, spoolFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return spoolFile;
+    }
+
+    private UploadSessionResponse describe(UUID sessionId, Path stagingFile) {
+        try {
+            return new UploadSessionResponse(sessionId.toString(), Files.size(stagingFile),
+                    Files.getLastModifiedTime(stagingFile).toInstant().plus(ttl));
+        } catch (NoSuchFileException e) {
+            throw sessionNotFound(sessionId);
+        } catch (IOException e) {
+            throw new DataProcessingException("Failed to read upload session " + sessionId, e);
+        }
+    }
+
+    // Checked before a lock is created so probing unknown IDs cannot grow the lock table.
+    private UUID existingSessionId(UUID sessionId) {
+        existingStagingFile(sessionId);
+        return sessionId;
+    }
+
+    private Path existingStagingFile(UUID sessionId) {
+        Path stagingFile = stagingFile(sessionId);
+        if (!Files.isRegularFile(stagingFile)) {
+            throw sessionNotFound(sessionId);
+        }
+        return stagingFile;
+    }
+
+    private Path stagingFile(UUID sessionId) {
+        return stagingDirectory.resolve(sessionId + STAGING_FILE_SUFFIX);
+    }
+
+    private ReentrantLock lockFor(UUID sessionId) {
+        return sessionLocks.computeIfAbsent(sessionId, id -> new ReentrantLock());
+    }
+
+    private UUID parseSessionId(String uploadId) {
+        try {
+            return UUID.fromString(uploadId);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Invalid value '%s' for upload session ID", uploadId));
+        }
+    }
+
+    private ResourceNotFoundException sessionNotFound(UUID sessionId) {
+        return new ResourceNotFoundException("Upload session with ID=" + sessionId + " not found");
+    }
+}
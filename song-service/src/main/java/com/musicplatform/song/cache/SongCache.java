@@ -0,0 +1,197 @@
+package com.musicplatform.song.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.musicplatform.song.dto.SongResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+@Component
+public class SongCache {
+
+    private static final String CACHE_NAME = "songs";
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+    private static final String READS_METER = "song.reads";
+    private static final String READS_DESCRIPTION =
+            "Song cache misses by whether they ran their own query or joined one already in flight";
+
+    private final Cache<Long, SongResponse> cache;
+    private final ConcurrentMap<Long, CompletableFuture<SongResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter loaded;
+    private final Counter coalesced;
+
+    @Autowired
+    public SongCache(MeterRegistry meterRegistry,
+                     @Value("${song.cache.maximum-size}") DataSize maximumSize,
+                     @Value("${song.cache.expire-after-write}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher(SongCache::weigh)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.loaded = Counter.builder(READS_METER)
+                .description(READS_DESCRIPTION)
+                .tag("outcome", "loaded")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder(READS_METER)
+                .description(READS_DESCRIPTION)
+                .tag("outcome", "coalesced")
+                .register(meterRegistry);
+    }
+
+    // Misses for the same ID share one load. Waiters park on its future rather than on a map lock, which would pin
+    // their virtual threads, and a song that does not exist is reported to all of them from the same query.
+    public SongResponse get(Long id, Function<Long, SongResponse> loader) {
+        SongResponse cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<SongResponse> load = new CompletableFuture<>();
+        CompletableFuture<SongResponse> running = inFlight.putIfAbsent(id, load);
+        if (running != null) {
+            coalesced.increment();
+            SongResponse songResponse = await(running);
+            // null when a multi-get found no such song; the loader reports that in its own way
+            return songResponse != null ? songResponse : loader.apply(id);
+        }
+
+        loaded.increment();
+        try {
+            SongResponse songResponse = loader.apply(id);
+            cacheLoaded(id, load, songResponse);
+            load.complete(songResponse);
+            return songResponse;
+        } catch (Throwable t) {
+            // errors too, otherwise the waiters joined on this load would block forever
+            load.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(id, load);
+        }
+    }
+
+    // Misses are claimed in the in-flight map just like single gets, so one query serves them all, concurrent gets
+    // for the same IDs join it, and an invalidation landing during the query keeps its results out of the cache.
+    public Map<Long, SongResponse> getAll(long[] ids, Function<long[], List<SongResponse>> loader) {
+        Map<Long, SongResponse> songs = new HashMap<>(cache.getAllPresent(Arrays.stream(ids).boxed().toList()));
+        Map<Long, CompletableFuture<SongResponse>> claimed = new LinkedHashMap<>();
+        Map<Long, CompletableFuture<SongResponse>> joined = new HashMap<>();
+
+        for (long id : ids) {
+            if (songs.containsKey(id) || claimed.containsKey(id) || joined.containsKey(id)) {
+                continue;
+            }
+            CompletableFuture<SongResponse> load = new CompletableFuture<>();
+            CompletableFuture<SongResponse> running = inFlight.putIfAbsent(id, load);
+            if (running != null) {
+                joined.put(id, running);
+            } else {
+                claimed.put(id, load);
+            }
+        }
+
+        if (!claimed.isEmpty()) {
+            loaded.increment(claimed.size());
+            try {
+                for (SongResponse songResponse : loader.apply(claimed.keySet().stream().mapToLong(Long::longValue).toArray())) {
+                    CompletableFuture<SongResponse> load = claimed.get(songResponse.id());
+                    cacheLoaded(songResponse.id(), load, songResponse);
+                    load.complete(songResponse);
+                    songs.put(songResponse.id(), songResponse);
+                }
+                claimed.values().forEach(load -> load.complete(null));
+            } catch (Throwable t) {
+                claimed.values().forEach(load -> load.completeExceptionally(t));
+                throw t;
+            } finally {
+                claimed.forEach(inFlight::remove);
+            }
+        }
+
+        coalesced.increment(joined.size());
+        joined.forEach((id, running) -> {
+            try {
+                SongResponse songResponse = await(running);
+                if (songResponse != null) {
+                    songs.put(id, songResponse);
+                }
+            } catch (RuntimeException e) {
+                // the single get that owned this load reports its own failure; a lookup just omits the song
+            }
+        });
+
+        return songs;
+    }
+
+    public void put(SongResponse songResponse) {
+        cache.put(songResponse.id(), songResponse);
+    }
+
+    // An invalidation during the load removes it from the in-flight map, so its result is not cached.
+    private void cacheLoaded(Long id, CompletableFuture<SongResponse> load, SongResponse songResponse) {
+        inFlight.computeIfPresent(id, (songId, current) -> {
+            if (current == load) {
+                cache.put(songId, songResponse);
+            }
+            return current;
+        });
+    }
+
+    void invalidateLocally(Collection<Long> ids) {
+        ids.forEach(inFlight::remove);
+        cache.invalidateAll(ids);
+    }
+
+    void invalidateAllLocally() {
+        inFlight.clear();
+        cache.invalidateAll();
+    }
+
+    private SongResponse await(CompletableFuture<SongResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static int weigh(Long id, SongResponse songResponse) {
+        return ENTRY_OVERHEAD_BYTES + 2 * (length(songResponse.name())
+                + length(songResponse.artist())
+                + length(songResponse.album())
+                + length(songResponse.duration())
+                + length(songResponse.year()));
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
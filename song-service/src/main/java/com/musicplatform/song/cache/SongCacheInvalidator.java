@@ -0,0 +1,168 @@
+package com.musicplatform.song.cache;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Component
+public class SongCacheInvalidator implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SongCacheInvalidator.class);
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    // Postgres rejects NOTIFY payloads of 8000 bytes or more
+    private static final int MAX_PAYLOAD_LENGTH = 7900;
+
+    private final SongCache songCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final String channel;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Autowired
+    public SongCacheInvalidator(SongCache songCache,
+                                JdbcTemplate jdbcTemplate,
+                                DataSourceProperties dataSourceProperties,
+                                @Value("${song.cache.invalidation.channel}") String channel,
+                                @Value("${song.cache.invalidation.poll-timeout}") Duration pollTimeout,
+                                @Value("${song.cache.invalidation.reconnect-delay}") Duration reconnectDelay) {
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel name: " + channel);
+        }
+
+        this.songCache = songCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.channel = channel;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    public void invalidate(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        songCache.invalidateLocally(ids);
+
+        try {
+            for (String payload : toPayloads(ids)) {
+                jdbcTemplate.execute(NOTIFY_SQL, (PreparedStatementCallback<Boolean>) preparedStatement -> {
+                    preparedStatement.setString(1, channel);
+                    preparedStatement.setString(2, payload);
+                    return preparedStatement.execute();
+                });
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Failed to notify other replicas about {} invalidated songs; they will expire on their own",
+                    ids.size(), e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        listenerThread = Thread.ofPlatform()
+                .name("song-cache-invalidation")
+                .daemon()
+                .start(this::listen);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+
+                // notifications sent while we were not listening are lost, so start from a clean cache
+                songCache.invalidateAllLocally();
+                logger.info("Listening for song cache invalidations on channel '{}'", channel);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            songCache.invalidateLocally(parseIds(notification.getParameter()));
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    logger.warn("Song cache invalidation listener disconnected, reconnecting in {} ms",
+                            reconnectDelay.toMillis(), e);
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private List<String> toPayloads(Collection<Long> ids) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder();
+
+        for (Long id : ids) {
+            String idString = id.toString();
+            if (payload.length() + idString.length() + 1 > MAX_PAYLOAD_LENGTH) {
+                payloads.add(payload.toString());
+                payload.setLength(0);
+            }
+            if (!payload.isEmpty()) {
+                payload.append(',');
+            }
+            payload.append(idString);
+        }
+        payloads.add(payload.toString());
+
+        return payloads;
+    }
+
+    private List<Long> parseIds(String payload) {
+        return Arrays.stream(payload.split(","))
+                .map(Long::valueOf)
+                .toList();
+    }
+}
@@ -1,8 +1,13 @@
 package com.musicplatform.song.controller;
 
+import com.musicplatform.song.dto.CreateSongBatchRequest;
+import com.musicplatform.song.dto.CreateSongBatchResponse;
 import com.musicplatform.song.dto.CreateSongRequest;
 import com.musicplatform.song.dto.CreateSongResponse;
+import com.musicplatform.song.dto.SongLookupRequest;
 import com.musicplatform.song.dto.SongResponse;
+import com.musicplatform.song.dto.SongSearchResponse;
+import com.musicplatform.song.repository.SongSearchCriteria;
 import com.musicplatform.song.dto.DeleteSongResponse;
 import com.musicplatform.song.service.SongService;
 import jakarta.validation.Valid;
@@ -18,6 +23,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/songs")
@@ -26,10 +32,12 @@ public class SongController {
     private static final MediaType APPLICATION_JSON_MEDIA_TYPE = MediaType.APPLICATION_JSON;
 
     private final SongService songService;
+    private final SongLookupWriter songLookupWriter;
 
     @Autowired
-    public SongController(SongService songService) {
+    public SongController(SongService songService, SongLookupWriter songLookupWriter) {
         this.songService = songService;
+        this.songLookupWriter = songLookupWriter;
     }
 
     @PostMapping
@@ -39,6 +47,14 @@ public class SongController {
                 .body(songService.create(createSongRequest));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<CreateSongBatchResponse> createBatch(@Valid @RequestBody CreateSongBatchRequest createSongBatchRequest) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(APPLICATION_JSON_MEDIA_TYPE)
+                .body(songService.createBatch(createSongBatchRequest));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<SongResponse> getById(@PathVariable("id") Long id) {
         return ResponseEntity
@@ -47,10 +63,41 @@ public class SongController {
                 .body(songService.getById(id));
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<SongSearchResponse> search(
+            @RequestParam(value = "name", required = false) String namePrefix,
+            @RequestParam(value = "artist", required = false) String artist,
+            @RequestParam(value = "album", required = false) String album,
+            @RequestParam(value = "year", required = false) String year,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(APPLICATION_JSON_MEDIA_TYPE)
+                .body(songService.search(new SongSearchCriteria(namePrefix, artist, album, year), after, limit));
+    }
+
+    @GetMapping(params = "id")
+    public ResponseEntity<StreamingResponseBody> getAllByIds(@RequestParam("id") String csvIds) {
+        return lookupResponse(songService.parseLookupIds(csvIds));
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<StreamingResponseBody> lookup(@Valid @RequestBody SongLookupRequest songLookupRequest) {
+        return lookupResponse(songLookupRequest.ids().stream().mapToLong(Long::longValue).toArray());
+    }
+
     @DeleteMapping
     public ResponseEntity<DeleteSongResponse> deleteAllByIds(@RequestParam("id") String csvIds) {
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(songService.deleteAllByIds(csvIds));
     }
+
+    private ResponseEntity<StreamingResponseBody> lookupResponse(long[] ids) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(APPLICATION_JSON_MEDIA_TYPE)
+                .body(outputStream -> songLookupWriter.write(ids, outputStream));
+    }
 }
@@ -0,0 +1,65 @@
+package com.musicplatform.song.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicplatform.song.dto.SongResponse;
+import com.musicplatform.song.service.SongService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+@Component
+public class SongLookupWriter {
+
+    private final SongService songService;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    @Autowired
+    public SongLookupWriter(SongService songService,
+                            ObjectMapper objectMapper,
+                            @Value("${song.lookup.chunk-size}") int chunkSize) {
+        this.songService = songService;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public void write(long[] ids, OutputStream outputStream) throws IOException {
+        LongStream.Builder missing = LongStream.builder();
+
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("songs");
+
+            for (int from = 0; from < ids.length; from += chunkSize) {
+                long[] chunk = Arrays.copyOfRange(ids, from, Math.min(ids.length, from + chunkSize));
+                Map<Long, SongResponse> songs = songService.getAllByIds(chunk);
+
+                for (long id : chunk) {
+                    SongResponse song = songs.get(id);
+                    if (song != null) {
+                        generator.writeObject(song);
+                    } else {
+                        missing.add(id);
+                    }
+                }
+                generator.flush();
+            }
+
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("missing");
+            for (long id : missing.build().toArray()) {
+                generator.writeNumber(id);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.musicplatform.song.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CreateSongBatchRequest(
+
+        @NotEmpty(message = "Songs are required")
+        @Size(max = 1000, message = "A batch may contain at most 1000 songs")
+        List<CreateSongRequest> songs
+) {
+}
@@ -0,0 +1,10 @@
+package com.musicplatform.song.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public record CreateSongBatchResponse(
+        List<Long> created,
+        List<Long> existing,
+        Map<Long, String> rejected
+) {}
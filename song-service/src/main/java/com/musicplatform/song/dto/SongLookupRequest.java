@@ -0,0 +1,16 @@
+package com.musicplatform.song.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record SongLookupRequest(
+
+        @NotEmpty(message = "IDs are required")
+        @Size(max = 10000, message = "A lookup may contain at most 10000 IDs")
+        List<@NotNull(message = "ID must not be null") @Positive(message = "ID must be a positive integer") Long> ids
+) {
+}
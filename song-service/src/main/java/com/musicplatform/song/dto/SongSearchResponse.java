@@ -0,0 +1,8 @@
+package com.musicplatform.song.dto;
+
+import java.util.List;
+
+public record SongSearchResponse(
+        List<SongResponse> songs,
+        Long nextCursor
+) {}
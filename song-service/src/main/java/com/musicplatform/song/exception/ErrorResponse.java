@@ -8,18 +8,25 @@ public class ErrorResponse {
     private final String errorMessage;
     private final String errorCode;
     private final Map<String, String> details;
+    private final String traceId;
 
     public ErrorResponse(String errorMessage, String errorCode) {
         this(errorMessage, errorCode, null);
     }
 
     public ErrorResponse(String errorMessage, String errorCode, Map<String, String> details) {
+        this(errorMessage, errorCode, details, null);
+    }
+
+    public ErrorResponse(String errorMessage, String errorCode, Map<String, String> details, String traceId) {
         this.errorMessage = errorMessage;
         this.errorCode = errorCode;
         this.details = details;
+        this.traceId = traceId;
     }
 
     public String getErrorMessage() { return errorMessage; }
     public String getErrorCode() { return errorCode; }
     public Map<String, String> getDetails() { return details; }
+    public String getTraceId() { return traceId; }
 }
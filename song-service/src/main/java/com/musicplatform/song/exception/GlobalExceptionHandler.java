@@ -1,7 +1,11 @@
 package com.musicplatform.song.exception;
 
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +23,13 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final ObjectProvider<Tracer> tracerProvider;
+
+    @Autowired
+    public GlobalExceptionHandler(ObjectProvider<Tracer> tracerProvider) {
+        this.tracerProvider = tracerProvider;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex) {
         Map<String, String> details = ex.getBindingResult()
@@ -31,7 +42,7 @@ public class GlobalExceptionHandler {
 
         logger.warn("Validation failed: {}", ex.getMessage());
 
-        ErrorResponse response = new ErrorResponse(
+        ErrorResponse response = errorResponse(
                 "Validation error",
                 String.valueOf(HttpStatus.BAD_REQUEST.value()),
                 details);
@@ -44,7 +55,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleBadRequest(IllegalArgumentException ex) {
         logger.warn("Bad request: {}", ex.getMessage());
-        ErrorResponse response = new ErrorResponse(
+        ErrorResponse response = errorResponse(
                 ex.getMessage(),
                 String.valueOf(HttpStatus.BAD_REQUEST.value()));
         return ResponseEntity
@@ -56,7 +67,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFound(ResourceNotFoundException ex) {
         logger.warn("Not found: {}", ex.getMessage());
-        ErrorResponse response = new ErrorResponse(
+        ErrorResponse response = errorResponse(
                 ex.getMessage(),
                 String.valueOf(HttpStatus.NOT_FOUND.value()));
         return ResponseEntity
@@ -67,7 +78,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(HttpMessageNotReadableException httpMessageNotReadableException) {
         logger.warn("Not readable: {}", httpMessageNotReadableException.getMessage());
-        ErrorResponse response = new ErrorResponse(
+        ErrorResponse response = errorResponse(
                 "Malformed JSON request",
                 String.valueOf(HttpStatus.BAD_REQUEST.value()));
         return ResponseEntity
@@ -79,7 +90,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(DuplicateMetadataException.class)
     public ResponseEntity<ErrorResponse> handleConflict(DuplicateMetadataException duplicateMetadataException) {
         logger.warn("Conflict: {}", duplicateMetadataException.getMessage());
-        ErrorResponse response = new ErrorResponse(
+        ErrorResponse response = errorResponse(
                 duplicateMetadataException.getMessage(),
                 String.valueOf(HttpStatus.CONFLICT.value()));
         return ResponseEntity
@@ -90,11 +101,25 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneric(Exception ex) {
         logger.warn(ex.getMessage(), ex);
-        ErrorResponse response = new ErrorResponse(
+        ErrorResponse response = errorResponse(
                 "An error occurred on the server.",
                 String.valueOf(HttpStatus.INTERNAL_SERVER_ERROR.value()));
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(response);
     }
+
+    private ErrorResponse errorResponse(String errorMessage, String errorCode) {
+        return errorResponse(errorMessage, errorCode, null);
+    }
+
+    private ErrorResponse errorResponse(String errorMessage, String errorCode, Map<String, String> details) {
+        return new ErrorResponse(errorMessage, errorCode, details, currentTraceId());
+    }
+
+    private String currentTraceId() {
+        Tracer tracer = tracerProvider.getIfAvailable();
+        Span span = tracer != null ? tracer.currentSpan() : null;
+        return span != null ? span.context().traceId() : null;
+    }
 }
@@ -3,6 +3,6 @@ package com.musicplatform.song.repository;
 import com.musicplatform.song.entity.Song;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface SongRepository extends JpaRepository<Song, Long> {
+public interface SongRepository extends JpaRepository<Song, Long>, SongRepositoryCustom {
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package com.musicplatform.song.repository;
+
+import com.musicplatform.song.dto.SongResponse;
+import com.musicplatform.song.entity.Song;
+
+import java.util.List;
+
+public interface SongRepositoryCustom {
+
+    boolean insertIfAbsent(Song song);
+
+    List<Long> insertAllIfAbsent(List<Song> songs);
+
+    List<Song> findAllByIds(long[] ids);
+
+    List<SongResponse> search(SongSearchCriteria criteria, Long afterId, int limit);
+
+    List<Long> deleteAllByIdsReturning(long[] ids);
+}
@@ -0,0 +1,139 @@
+package com.musicplatform.song.repository;
+
+import com.musicplatform.song.dto.SongResponse;
+import com.musicplatform.song.entity.Song;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+public class SongRepositoryImpl implements SongRepositoryCustom {
+
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO songs (id, name, artist, album, duration, year)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO NOTHING""";
+    private static final String INSERT_ALL_IF_ABSENT_SQL = """
+            INSERT INTO songs (id, name, artist, album, duration, year)
+            SELECT * FROM unnest(?::bigint[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[])
+            ON CONFLICT (id) DO NOTHING
+            RETURNING id""";
+    private static final String SELECT_BY_IDS_SQL =
+            "SELECT id, name, artist, album, duration, year FROM songs WHERE id = ANY(?)";
+    private static final String DELETE_BY_IDS_SQL = "DELETE FROM songs WHERE id = ANY(?) RETURNING id";
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Autowired
+    public SongRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public boolean insertIfAbsent(Song song) {
+        return jdbcTemplate.update(INSERT_IF_ABSENT_SQL,
+                song.getId(), song.getName(), song.getArtist(), song.getAlbum(), song.getDuration(), song.getYear()) == 1;
+    }
+
+    @Override
+    public List<Long> insertAllIfAbsent(List<Song> songs) {
+        return jdbcTemplate.query(INSERT_ALL_IF_ABSENT_SQL,
+                preparedStatement -> {
+                    Connection connection = preparedStatement.getConnection();
+                    preparedStatement.setObject(1, songs.stream().mapToLong(Song::getId).toArray());
+                    preparedStatement.setArray(2, varcharArray(connection, songs, Song::getName));
+                    preparedStatement.setArray(3, varcharArray(connection, songs, Song::getArtist));
+                    preparedStatement.setArray(4, varcharArray(connection, songs, Song::getAlbum));
+                    preparedStatement.setArray(5, varcharArray(connection, songs, Song::getDuration));
+                    preparedStatement.setArray(6, varcharArray(connection, songs, Song::getYear));
+                },
+                (resultSet, rowNum) -> resultSet.getLong(1));
+    }
+
+    @Override
+    public List<Song> findAllByIds(long[] ids) {
+        return jdbcTemplate.query(SELECT_BY_IDS_SQL,
+                preparedStatement -> preparedStatement.setObject(1, ids),
+                (resultSet, rowNum) -> new Song(
+                        resultSet.getLong("id"),
+                        resultSet.getString("name"),
+                        resultSet.getString("artist"),
+                        resultSet.getString("album"),
+                        resultSet.getString("duration"),
+                        resultSet.getString("year")));
+    }
+
+    @Override
+    public List<SongResponse> search(SongSearchCriteria criteria, Long afterId, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SongResponse> query = criteriaBuilder.createQuery(SongResponse.class);
+        Root<Song> song = query.from(Song.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (afterId != null) {
+            predicates.add(criteriaBuilder.greaterThan(song.get("id"), afterId));
+        }
+        if (criteria.artist() != null) {
+            predicates.add(criteriaBuilder.equal(song.get("artist"), criteria.artist()));
+        }
+        if (criteria.album() != null) {
+            predicates.add(criteriaBuilder.equal(song.get("album"), criteria.album()));
+        }
+        if (criteria.year() != null) {
+            predicates.add(criteriaBuilder.equal(song.get("year"), criteria.year()));
+        }
+        if (criteria.namePrefix() != null) {
+            predicates.add(criteriaBuilder.like(
+                    criteriaBuilder.lower(song.get("name")),
+                    escapeLike(criteria.namePrefix().toLowerCase(Locale.ROOT)) + "%",
+                    LIKE_ESCAPE));
+        }
+
+        query.select(criteriaBuilder.construct(SongResponse.class,
+                        song.get("id"),
+                        song.get("name"),
+                        song.get("artist"),
+                        song.get("album"),
+                        song.get("duration"),
+                        song.get("year")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(criteriaBuilder.asc(song.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> deleteAllByIdsReturning(long[] ids) {
+        return jdbcTemplate.query(DELETE_BY_IDS_SQL,
+                preparedStatement -> preparedStatement.setObject(1, ids),
+                (resultSet, rowNum) -> resultSet.getLong(1));
+    }
+
+    private Array varcharArray(Connection connection, List<Song> songs, Function<Song, String> column) throws SQLException {
+        return connection.createArrayOf("varchar", songs.stream().map(column).toArray(String[]::new));
+    }
+
+    private String escapeLike(String value) {
+        return value
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,4 @@
+package com.musicplatform.song.repository;
+
+public record SongSearchCriteria(String namePrefix, String artist, String album, String year) {
+}
@@ -1,85 +1,186 @@
 package com.musicplatform.song.service;
 
+import com.musicplatform.song.cache.SongCache;
+import com.musicplatform.song.cache.SongCacheInvalidator;
+import com.musicplatform.song.dto.CreateSongBatchRequest;
+import com.musicplatform.song.dto.CreateSongBatchResponse;
 import com.musicplatform.song.dto.CreateSongRequest;
 import com.musicplatform.song.dto.CreateSongResponse;
 import com.musicplatform.song.dto.DeleteSongResponse;
 import com.musicplatform.song.dto.SongResponse;
+import com.musicplatform.song.dto.SongSearchResponse;
 import com.musicplatform.song.entity.Song;
 import com.musicplatform.song.exception.DuplicateMetadataException;
 import com.musicplatform.song.exception.ResourceNotFoundException;
 import com.musicplatform.song.repository.SongRepository;
+import com.musicplatform.song.repository.SongSearchCriteria;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 public class SongService {
 
     private static final Logger logger = LoggerFactory.getLogger(SongService.class);
+    private static final Pattern YEAR_PATTERN = Pattern.compile("\\d{4}");
 
     private final SongRepository songRepository;
+    private final Validator validator;
+    private final SongCache songCache;
+    private final SongCacheInvalidator songCacheInvalidator;
+    private final int maxDeleteCsvLength;
+    private final int deleteChunkSize;
+    private final int maxLookupCsvLength;
+    private final int maxSearchLimit;
 
     @Autowired
-    public SongService(SongRepository songRepository) {
+    public SongService(SongRepository songRepository,
+                       Validator validator,
+                       SongCache songCache,
+                       SongCacheInvalidator songCacheInvalidator,
+                       @Value("${song.deletion.max-csv-length}") int maxDeleteCsvLength,
+                       @Value("${song.deletion.chunk-size}") int deleteChunkSize,
+                       @Value("${song.lookup.max-csv-length}") int maxLookupCsvLength,
+                       @Value("${song.search.max-limit}") int maxSearchLimit) {
         this.songRepository = songRepository;
+        this.validator = validator;
+        this.songCache = songCache;
+        this.songCacheInvalidator = songCacheInvalidator;
+        this.maxDeleteCsvLength = maxDeleteCsvLength;
+        this.deleteChunkSize = deleteChunkSize;
+        this.maxLookupCsvLength = maxLookupCsvLength;
+        this.maxSearchLimit = maxSearchLimit;
     }
 
     public CreateSongResponse create(CreateSongRequest createSongRequest) {
-        if (songRepository.existsById(createSongRequest.id())) {
+        Song song = toEntity(createSongRequest);
+
+        if (!songRepository.insertIfAbsent(song)) {
             throw new DuplicateMetadataException("Metadata for ID=" + createSongRequest.id() + " already exists");
         }
+        songCache.put(toDto(song));
+        logger.info("Created song metadata. ID: {}", song.getId());
 
-        Song song = toEntity(createSongRequest);
+        return new CreateSongResponse(song.getId());
+    }
+
+    @Transactional
+    public CreateSongBatchResponse createBatch(CreateSongBatchRequest createSongBatchRequest) {
+        Map<Long, CreateSongRequest> validRequests = new LinkedHashMap<>();
+        Map<Long, String> rejected = new LinkedHashMap<>();
+
+        for (CreateSongRequest createSongRequest : createSongBatchRequest.songs()) {
+            if (createSongRequest == null || createSongRequest.id() == null) {
+                throw new IllegalArgumentException("Every song in a batch must have an ID");
+            }
+
+            Set<ConstraintViolation<CreateSongRequest>> violations = validator.validate(createSongRequest);
+
+            if (!violations.isEmpty()) {
+                rejected.put(createSongRequest.id(), violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+            } else {
+                validRequests.putIfAbsent(createSongRequest.id(), createSongRequest);
+            }
+        }
+
+        List<Long> created = validRequests.isEmpty()
+                ? List.of()
+                : songRepository.insertAllIfAbsent(validRequests.values().stream().map(SongService::toEntity).toList());
+
+        Set<Long> createdIds = new HashSet<>(created);
+        List<Long> existing = validRequests.keySet()
+                .stream()
+                .filter(id -> !createdIds.contains(id))
+                .toList();
 
-        Song savedSong = songRepository.save(song);
-        logger.info("Created song metadata. ID: {}", savedSong.getId());
+        logger.info("Created song metadata batch: {} created, {} already existing, {} rejected",
+                created.size(), existing.size(), rejected.size());
+        if (!rejected.isEmpty()) {
+            logger.warn("Rejected song metadata in batch: {}", rejected);
+        }
 
-        return new CreateSongResponse(savedSong.getId());
+        return new CreateSongBatchResponse(created, existing, rejected);
     }
 
     public SongResponse getById(Long id) {
-        return songRepository.findById(id)
-                .map(this::toDto)
+        return songCache.get(id, songId -> songRepository.findById(songId)
+                .map(SongService::toDto)
                 .orElseThrow(() -> new ResourceNotFoundException(
-                        "Song metadata with ID=" + id + " not found"));
+                        "Song metadata with ID=" + songId + " not found")));
     }
 
-    public DeleteSongResponse deleteAllByIds(String csvIds) {
-        if (csvIds.length() >= 200) {
-            throw new IllegalArgumentException(String.format("CSV string is too long: received %s characters, maximum allowed is 200", csvIds.length()));
-        }
+    public long[] parseLookupIds(String csvIds) {
+        return CsvIdParser.parse(csvIds, maxLookupCsvLength);
+    }
 
-        String[] idStrings = csvIds.split(",");
-        List<Long> deletedIds = new ArrayList<>();
-        Long idForDeletion;
+    public Map<Long, SongResponse> getAllByIds(long[] ids) {
+        return songCache.getAll(ids, missingIds -> songRepository.findAllByIds(missingIds)
+                .stream()
+                .map(SongService::toDto)
+                .toList());
+    }
 
-        for (String idString : idStrings) {
-            String idStr = idString.trim();
+    public SongSearchResponse search(SongSearchCriteria criteria, Long after, int limit) {
+        if (limit < 1 || limit > maxSearchLimit) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid value '%s' for limit. Must be between 1 and %s", limit, maxSearchLimit));
+        }
+        if (after != null && after < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid value '%s' for cursor. Must be a non-negative integer", after));
+        }
+        if (criteria.year() != null && !YEAR_PATTERN.matcher(criteria.year()).matches()) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid value '%s' for year. Must be a four-digit year", criteria.year()));
+        }
 
-            try {
-                idForDeletion = Long.parseLong(idStr);
+        List<SongResponse> songs = songRepository.search(criteria, after, limit + 1);
+        if (songs.size() <= limit) {
+            return new SongSearchResponse(songs, null);
+        }
 
-                if (songRepository.existsById(idForDeletion)) {
-                    songRepository.deleteById(idForDeletion);
-                    logger.info("Deleted song metadata with ID: {}", idForDeletion);
+        List<SongResponse> page = songs.subList(0, limit);
+        return new SongSearchResponse(List.copyOf(page), page.getLast().id());
+    }
 
-                    deletedIds.add(idForDeletion);
-                } else {
-                    logger.warn("Song metadata with ID {} not found for deletion", idForDeletion);
-                }
-            } catch (NumberFormatException e) {
-                throw new IllegalArgumentException(String.format("Invalid ID format: '%s'. Only positive integers are allowed", idStr));
-            }
+    public DeleteSongResponse deleteAllByIds(String csvIds) {
+        long[] ids = CsvIdParser.parse(csvIds, maxDeleteCsvLength);
+        Set<Long> deletedIds = new HashSet<>();
+
+        for (int from = 0; from < ids.length; from += deleteChunkSize) {
+            long[] chunk = Arrays.copyOfRange(ids, from, Math.min(ids.length, from + deleteChunkSize));
+            List<Long> deletedChunk = songRepository.deleteAllByIdsReturning(chunk);
+            songCacheInvalidator.invalidate(deletedChunk);
+            deletedIds.addAll(deletedChunk);
         }
 
-        return new DeleteSongResponse(deletedIds);
+        logger.info("Deleted {} of {} requested song metadata records", deletedIds.size(), ids.length);
+
+        return new DeleteSongResponse(Arrays.stream(ids)
+                .filter(deletedIds::contains)
+                .distinct()
+                .boxed()
+                .toList());
     }
 
-    private SongResponse toDto(Song song) {
+    static SongResponse toDto(Song song) {
         return new SongResponse(
                 song.getId(),
                 song.getName(),
@@ -90,7 +191,7 @@ public class SongService {
         );
     }
 
-    private Song toEntity(CreateSongRequest createSongRequest) {
+    static Song toEntity(CreateSongRequest createSongRequest) {
         return new Song(
                 createSongRequest.id(),
                 createSongRequest.name(),